@@ -16,7 +16,6 @@ java {
 }
 
 dependencies {
-    api("org.reflections:reflections:0.10.2")
     api("org.jgrapht:jgrapht-core:1.5.2")
     api("org.javassist:javassist:3.30.2-GA")
     api("org.slf4j:slf4j-api:2.0.17")
@@ -0,0 +1,16 @@
+package dev.hanginggoose.nestdi.framework.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Batched {
+    String value();
+
+    int maxSize() default 100;
+
+    long windowMillis() default 10;
+}
@@ -0,0 +1,14 @@
+package dev.hanginggoose.nestdi.framework.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Cached {
+    int maxSize() default 1024;
+
+    long expireAfterWriteMillis() default 0;
+}
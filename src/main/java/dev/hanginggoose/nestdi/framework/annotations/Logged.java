@@ -8,4 +8,11 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface Logged {
-}
\ No newline at end of file
+    double sampleRate() default 1.0;
+
+    int maxPerSecond() default 0;
+
+    boolean arguments() default false;
+
+    boolean result() default false;
+}
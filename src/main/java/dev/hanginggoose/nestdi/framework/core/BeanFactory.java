@@ -0,0 +1,6 @@
+package dev.hanginggoose.nestdi.framework.core;
+
+@FunctionalInterface
+public interface BeanFactory {
+    Object create(Object[] arguments) throws Throwable;
+}
@@ -0,0 +1,285 @@
+package dev.hanginggoose.nestdi.framework.core;
+
+import dev.hanginggoose.nestdi.framework.graph.DependencyGraph;
+import dev.hanginggoose.nestdi.framework.graph.InjectionPlanner;
+import dev.hanginggoose.nestdi.framework.graph.TypeIndex;
+import dev.hanginggoose.nestdi.framework.scanning.ClassPathScanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+public class ContainerSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(ContainerSnapshot.class);
+    private static final int MAGIC = 0x4E534E50;
+    private static final int VERSION = 1;
+
+    private final Map<String, String> packageFingerprints;
+    private final List<Entry> entries;
+    private final int[] instantiationOrder;
+
+    private ContainerSnapshot(Map<String, String> packageFingerprints, List<Entry> entries, int[] instantiationOrder) {
+        this.packageFingerprints = packageFingerprints;
+        this.entries = entries;
+        this.instantiationOrder = instantiationOrder;
+    }
+
+    public static ContainerSnapshot capture(DependencyGraph dependencyGraph, Map<String, String> packageFingerprints) {
+        if (dependencyGraph.getIdCapacity() != dependencyGraph.getBeanCount()) {
+            throw new IllegalStateException("Cannot capture a snapshot of a dependency graph with unregistered components");
+        }
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int beanId = 0; beanId < dependencyGraph.getBeanCount(); beanId++) {
+            Class<?> beanClass = dependencyGraph.getBeanClass(beanId);
+            InjectionPlan plan = dependencyGraph.getInjectionPlan(beanClass);
+
+            if (plan == null) {
+                entries.add(new Entry(beanClass.getName(), null, null, null, null, true, new int[0]));
+                continue;
+            }
+
+            Executable executable = plan.getExecutable();
+            int[] dependencyIds = new int[plan.getDependencyCount()];
+            for (int i = 0; i < dependencyIds.length; i++) {
+                dependencyIds[i] = plan.getDependencyId(i);
+            }
+
+            String descriptor = MethodType.methodType(void.class, executable.getParameterTypes()).toMethodDescriptorString();
+            entries.add(plan.isFactoryMethod()
+                    ? new Entry(beanClass.getName(), executable.getDeclaringClass().getName(), executable.getName(),
+                    descriptor, plan.getBeanName(), true, dependencyIds)
+                    : new Entry(beanClass.getName(), null, null, descriptor, null, plan.isRequired(), dependencyIds));
+        }
+
+        int[] instantiationOrder = dependencyGraph.getTopologicalOrderIds();
+
+        return new ContainerSnapshot(new LinkedHashMap<>(packageFingerprints), entries, instantiationOrder);
+    }
+
+    public static ContainerSnapshot read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            logger.debug("No container snapshot at {}", file);
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                logger.info("Ignoring container snapshot {} written by another version", file);
+                return null;
+            }
+
+            int packageCount = in.readInt();
+            Map<String, String> packageFingerprints = new LinkedHashMap<>();
+            for (int i = 0; i < packageCount; i++) {
+                packageFingerprints.put(in.readUTF(), in.readUTF());
+            }
+
+            int entryCount = in.readInt();
+            List<Entry> entries = new ArrayList<>(entryCount);
+            for (int i = 0; i < entryCount; i++) {
+                entries.add(Entry.read(in));
+            }
+
+            int[] instantiationOrder = new int[in.readInt()];
+            for (int i = 0; i < instantiationOrder.length; i++) {
+                instantiationOrder[i] = in.readInt();
+            }
+
+            logger.debug("Read container snapshot {} with {} beans", file, entryCount);
+            return new ContainerSnapshot(packageFingerprints, entries, instantiationOrder);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable container snapshot {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    public void write(Path file) {
+        Path temporaryFile = null;
+
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+
+                out.writeInt(packageFingerprints.size());
+                for (Map.Entry<String, String> packageFingerprint : packageFingerprints.entrySet()) {
+                    out.writeUTF(packageFingerprint.getKey());
+                    out.writeUTF(packageFingerprint.getValue());
+                }
+
+                out.writeInt(entries.size());
+                for (Entry entry : entries) {
+                    entry.write(out);
+                }
+
+                out.writeInt(instantiationOrder.length);
+                for (int beanId : instantiationOrder) {
+                    out.writeInt(beanId);
+                }
+            }
+
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Wrote container snapshot with {} beans to {}", entries.size(), file);
+        } catch (IOException e) {
+            logger.warn("Failed to write container snapshot {}: {}", file, e.getMessage());
+            if (temporaryFile != null) {
+                try {
+                    Files.deleteIfExists(temporaryFile);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    public Set<String> getPackages() {
+        return Collections.unmodifiableSet(packageFingerprints.keySet());
+    }
+
+    public int getBeanCount() {
+        return entries.size();
+    }
+
+    public boolean isValid(ClassPathScanner scanner) {
+        for (Map.Entry<String, String> packageFingerprint : packageFingerprints.entrySet()) {
+            if (!scanner.fingerprint(packageFingerprint.getKey()).equals(packageFingerprint.getValue())) {
+                logger.info("Container snapshot is stale: package {} has changed", packageFingerprint.getKey());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    DIContainer restore(ClassLoader classLoader) throws ReflectiveOperationException {
+        List<Class<?>> beanClasses = new ArrayList<>(entries.size());
+        Set<Class<?>> configClasses = new LinkedHashSet<>();
+        for (Entry entry : entries) {
+            beanClasses.add(Class.forName(entry.className, false, classLoader));
+            if (entry.isFactoryMethod()) {
+                configClasses.add(Class.forName(entry.factoryClassName, false, classLoader));
+            }
+        }
+
+        Map<Class<?>, Object> configInstances = DIContainerFactory.instantiateConfigurations(configClasses);
+
+        Map<Class<?>, Integer> beanIds = new HashMap<>();
+        InjectionPlan[] plans = new InjectionPlan[entries.size()];
+        List<BeanInfo> beanInfos = new ArrayList<>();
+
+        for (int beanId = 0; beanId < entries.size(); beanId++) {
+            Entry entry = entries.get(beanId);
+            Class<?> beanClass = beanClasses.get(beanId);
+            beanIds.put(beanClass, beanId);
+
+            if (entry.descriptor == null) {
+                continue;
+            }
+
+            Class<?>[] parameterTypes = MethodType.fromMethodDescriptorString(entry.descriptor, classLoader).parameterArray();
+            Class<?>[] dependencies = new Class<?>[entry.dependencyIds.length];
+            for (int i = 0; i < dependencies.length; i++) {
+                dependencies[i] = entry.dependencyIds[i] >= 0 ? beanClasses.get(entry.dependencyIds[i]) : null;
+            }
+
+            if (entry.isFactoryMethod()) {
+                Class<?> configClass = Class.forName(entry.factoryClassName, false, classLoader);
+                Method factoryMethod = configClass.getDeclaredMethod(entry.methodName, parameterTypes);
+                BeanInfo beanInfo = new BeanInfo(entry.beanName, beanClass, factoryMethod, configInstances.get(configClass));
+                beanInfos.add(beanInfo);
+                plans[beanId] = InjectionPlan.forFactoryMethod(beanInfo, beanId, dependencies, entry.dependencyIds);
+            } else {
+                Constructor<?> constructor = beanClass.getDeclaredConstructor(parameterTypes);
+                plans[beanId] = InjectionPlan.forConstructor(beanClass, beanId, constructor, dependencies,
+                        entry.dependencyIds, entry.required);
+            }
+        }
+
+        InjectionPlanner planner = new InjectionPlanner(new TypeIndex(beanClasses), beanIds);
+        return new DIContainer(beanClasses, plans, planner, instantiationOrder.clone(), beanInfos,
+                InstantiationStrategy.METHOD_HANDLE);
+    }
+
+    private static class Entry {
+        private final String className;
+        private final String factoryClassName;
+        private final String methodName;
+        private final String descriptor;
+        private final String beanName;
+        private final boolean required;
+        private final int[] dependencyIds;
+
+        private Entry(String className, String factoryClassName, String methodName, String descriptor,
+                      String beanName, boolean required, int[] dependencyIds) {
+            this.className = className;
+            this.factoryClassName = factoryClassName;
+            this.methodName = methodName;
+            this.descriptor = descriptor;
+            this.beanName = beanName;
+            this.required = required;
+            this.dependencyIds = dependencyIds;
+        }
+
+        private boolean isFactoryMethod() {
+            return factoryClassName != null;
+        }
+
+        private void write(DataOutput out) throws IOException {
+            out.writeUTF(className);
+            out.writeByte(descriptor == null ? 0 : isFactoryMethod() ? 2 : 1);
+            if (descriptor != null) {
+                out.writeUTF(descriptor);
+                out.writeBoolean(required);
+            }
+            if (isFactoryMethod()) {
+                out.writeUTF(factoryClassName);
+                out.writeUTF(methodName);
+                out.writeUTF(beanName);
+            }
+            out.writeInt(dependencyIds.length);
+            for (int dependencyId : dependencyIds) {
+                out.writeInt(dependencyId);
+            }
+        }
+
+        private static Entry read(DataInput in) throws IOException {
+            String className = in.readUTF();
+            byte kind = in.readByte();
+
+            String descriptor = null;
+            boolean required = true;
+            if (kind > 0) {
+                descriptor = in.readUTF();
+                required = in.readBoolean();
+            }
+
+            String factoryClassName = null;
+            String methodName = null;
+            String beanName = null;
+            if (kind == 2) {
+                factoryClassName = in.readUTF();
+                methodName = in.readUTF();
+                beanName = in.readUTF();
+            }
+
+            int[] dependencyIds = new int[in.readInt()];
+            for (int i = 0; i < dependencyIds.length; i++) {
+                dependencyIds[i] = in.readInt();
+            }
+
+            return new Entry(className, factoryClassName, methodName, descriptor, beanName, required, dependencyIds);
+        }
+    }
+}
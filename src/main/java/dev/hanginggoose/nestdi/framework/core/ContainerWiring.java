@@ -0,0 +1,5 @@
+package dev.hanginggoose.nestdi.framework.core;
+
+public interface ContainerWiring {
+    DIContainer createContainer();
+}
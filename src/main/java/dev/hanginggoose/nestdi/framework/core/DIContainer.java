@@ -1,213 +1,645 @@
 package dev.hanginggoose.nestdi.framework.core;
 
-import dev.hanginggoose.nestdi.framework.annotations.Autowired;
+import dev.hanginggoose.nestdi.framework.annotations.*;
+import dev.hanginggoose.nestdi.framework.graph.CyclicDependencyException;
 import dev.hanginggoose.nestdi.framework.graph.DependencyGraph;
+import dev.hanginggoose.nestdi.framework.graph.GraphChange;
+import dev.hanginggoose.nestdi.framework.graph.InjectionPlanner;
+import dev.hanginggoose.nestdi.framework.interception.AsyncStatistics;
+import dev.hanginggoose.nestdi.framework.interception.BatchStatistics;
+import dev.hanginggoose.nestdi.framework.interception.CacheStatistics;
+import dev.hanginggoose.nestdi.framework.interception.InterceptionContext;
 import dev.hanginggoose.nestdi.framework.interception.InterceptionProxyFactory;
+import dev.hanginggoose.nestdi.framework.interception.LazyProxyFactory;
+import dev.hanginggoose.nestdi.framework.interception.TimingStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class DIContainer {
     private static final Logger logger = LoggerFactory.getLogger(DIContainer.class);
+    private static final List<Class<? extends Annotation>> STEREOTYPES =
+            List.of(Component.class, Service.class, Repository.class, Controller.class, Configuration.class);
 
-    private final Map<Class<?>, Object> instances = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Object> unmanagedInstances = new ConcurrentHashMap<>();
     private final Map<String, Object> namedBeans = new ConcurrentHashMap<>();
-    private final Map<Class<?>, BeanInfo> beanInfos = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Integer> beanIds = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> beanNameIndex = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Annotation>, AnnotatedBeans> annotationIndex = new ConcurrentHashMap<>();
+    private final AtomicLong beanVersion = new AtomicLong();
+    private final ReadWriteLock refreshLock = new ReentrantReadWriteLock();
+    private final InjectionPlanner planner;
     private final DependencyGraph dependencyGraph;
-    private final List<BeanInfo> configurationBeans;
+    private final int[] instantiationOrder;
+    private final InstantiationStrategy instantiationStrategy;
+    private final InterceptionContext interceptionContext = new InterceptionContext();
+    private volatile BeanSlots slots;
+    private volatile boolean started;
 
     public DIContainer(DependencyGraph dependencyGraph, List<BeanInfo> configurationBeans) {
+        this(dependencyGraph, configurationBeans, InstantiationStrategy.METHOD_HANDLE);
+    }
+
+    public DIContainer(DependencyGraph dependencyGraph, List<BeanInfo> configurationBeans,
+                       InstantiationStrategy instantiationStrategy) {
+        this(classesOf(dependencyGraph), plansOf(dependencyGraph), dependencyGraph.getPlanner(),
+                dependencyGraph, null, configurationBeans, instantiationStrategy);
+    }
+
+    DIContainer(List<Class<?>> beanClasses, InjectionPlan[] plans, InjectionPlanner planner,
+                int[] instantiationOrder, List<BeanInfo> configurationBeans,
+                InstantiationStrategy instantiationStrategy) {
+        this(beanClasses, plans, planner, null, instantiationOrder, configurationBeans, instantiationStrategy);
+    }
+
+    private DIContainer(List<Class<?>> beanClasses, InjectionPlan[] plans, InjectionPlanner planner,
+                        DependencyGraph dependencyGraph, int[] instantiationOrder,
+                        List<BeanInfo> configurationBeans, InstantiationStrategy instantiationStrategy) {
+        this.planner = planner;
         this.dependencyGraph = dependencyGraph;
-        this.configurationBeans = configurationBeans != null ? configurationBeans : new ArrayList<>();
-        logger.info("DI Container initialized with {} configuration beans",
-                this.configurationBeans.size());
+        this.instantiationOrder = instantiationOrder;
+        this.instantiationStrategy = instantiationStrategy;
+        this.slots = new BeanSlots(beanClasses.toArray(new Class<?>[0]), plans);
+
+        for (int i = 0; i < beanClasses.size(); i++) {
+            if (beanClasses.get(i) != null) {
+                beanIds.put(beanClasses.get(i), i);
+            }
+        }
+
+        List<BeanInfo> beans = configurationBeans != null ? configurationBeans : List.of();
+        for (BeanInfo beanInfo : beans) {
+            beanNameIndex.putIfAbsent(beanInfo.getName(), beanInfo.getBeanClass());
+        }
+
+        logger.info("DI Container initialized with {} configuration beans", beans.size());
+    }
+
+    private static List<Class<?>> classesOf(DependencyGraph dependencyGraph) {
+        List<Class<?>> beanClasses = new ArrayList<>(dependencyGraph.getIdCapacity());
+        for (int i = 0; i < dependencyGraph.getIdCapacity(); i++) {
+            beanClasses.add(dependencyGraph.getBeanClass(i));
+        }
+        return beanClasses;
+    }
+
+    private static InjectionPlan[] plansOf(DependencyGraph dependencyGraph) {
+        InjectionPlan[] plans = new InjectionPlan[dependencyGraph.getIdCapacity()];
+        for (int i = 0; i < plans.length; i++) {
+            Class<?> beanClass = dependencyGraph.getBeanClass(i);
+            plans[i] = beanClass != null ? dependencyGraph.getInjectionPlan(beanClass) : null;
+        }
+        return plans;
     }
 
     public void start() {
-        if (dependencyGraph.hasCycles()) {
-            throw new IllegalStateException("Cannot start DI Container: Cyclic dependencies detected");
+        int[] order = prepareStart();
+
+        for (int beanId : order) {
+            if (!isLazy(beanId)) {
+                getBean(beanId);
+            }
         }
 
-        logger.info("Starting DI Container...");
+        started = true;
+        indexStereotypes();
+        logger.info("DI Container started successfully. Managed beans: {}", countManagedBeans());
+    }
 
-        List<Class<?>> instantiationOrder = dependencyGraph.getTopologicalOrder();
+    public void startParallel() {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            startParallel(executor);
+        }
+    }
+
+    public void startParallel(Executor executor) {
+        int[] order = prepareStart();
+        BeanSlots slots = this.slots;
+
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[slots.size()];
+        Map<Class<?>, Throwable> failures = new ConcurrentHashMap<>();
 
-        for (BeanInfo beanInfo : configurationBeans) {
-            beanInfos.put(beanInfo.getBeanClass(), beanInfo);
-            logger.debug("Registered BeanInfo for: {}", beanInfo.getBeanClass().getSimpleName());
+        for (int beanId : order) {
+            if (isLazy(beanId)) {
+                tasks[beanId] = CompletableFuture.completedFuture(null);
+                continue;
+            }
+
+            InjectionPlan plan = slots.plans[beanId];
+            CompletableFuture<?>[] dependencies = plan == null ? new CompletableFuture<?>[0] :
+                    IntStream.range(0, plan.getDependencyCount())
+                            .map(plan::getDependencyId)
+                            .filter(dependencyId -> dependencyId >= 0 && tasks[dependencyId] != null)
+                            .mapToObj(dependencyId -> tasks[dependencyId])
+                            .toArray(CompletableFuture[]::new);
+
+            Class<?> componentClass = slots.beanClasses[beanId];
+            tasks[beanId] = CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+                try {
+                    getBean(beanId);
+                } catch (RuntimeException | Error e) {
+                    failures.put(componentClass, e);
+                    throw e;
+                }
+            }, executor);
         }
 
-        for (Class<?> componentClass : instantiationOrder) {
-            getBean(componentClass);
+        try {
+            CompletableFuture.allOf(Arrays.stream(tasks).filter(Objects::nonNull).toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw startFailure(order, failures, e);
         }
 
-        logger.info("DI Container started successfully. Managed beans: {}", instances.size());
+        started = true;
+        indexStereotypes();
+        logger.info("DI Container started successfully in parallel. Managed beans: {}", countManagedBeans());
     }
 
-    @SuppressWarnings("unchecked")
-    public <T> T getBean(Class<T> beanClass) {
-        logger.debug("Requesting bean {}", beanClass.getSimpleName());
+    private boolean isLazy(int beanId) {
+        InjectionPlan plan = slots.plans[beanId];
+        return plan != null && plan.isLazy();
+    }
 
-        Object existingInstance = instances.get(beanClass);
-        if (existingInstance != null) {
-            logger.debug("Returning cached instance of {}", beanClass.getSimpleName());
-            return (T) existingInstance;
+    private void indexStereotypes() {
+        for (Class<? extends Annotation> stereotype : STEREOTYPES) {
+            getBeansWithAnnotation(stereotype);
         }
+    }
 
-        if (beanInfos.containsKey(beanClass)) {
-            return createBeanFromMethod(beanClass);
+    private int[] prepareStart() {
+        if (instantiationOrder != null) {
+            logger.info("Starting DI Container from precomputed instantiation order...");
+            return instantiationOrder;
         }
 
-        Object instance = instances.computeIfAbsent(beanClass,
-                key -> createInstance((Class<?>) key));
+        if (dependencyGraph.hasCycles()) {
+            throw new CyclicDependencyException("Cannot start DI Container: Cyclic dependencies detected",
+                    dependencyGraph.findCycles());
+        }
+
+        logger.info("Starting DI Container...");
 
-        logger.debug("Created new instance of {}", beanClass.getSimpleName());
-        return (T) instance;
+        return dependencyGraph.getTopologicalOrderIds();
     }
 
-    public Object getBean(String beanName) {
-        logger.debug("Requesting bean by name: {}", beanName);
+    private IllegalStateException startFailure(int[] order, Map<Class<?>, Throwable> failures,
+                                               CompletionException cause) {
+        BeanSlots slots = this.slots;
+        List<Class<?>> failedBeans = Arrays.stream(order)
+                .mapToObj(beanId -> slots.beanClasses[beanId])
+                .filter(failures::containsKey)
+                .toList();
 
-        if (namedBeans.containsKey(beanName)) {
-            logger.debug("Returning cached instance of bean named {}", beanName);
-            return namedBeans.get(beanName);
+        if (failedBeans.isEmpty()) {
+            return new IllegalStateException("Cannot start DI Container: " + cause.getCause().getMessage(), cause.getCause());
         }
 
-        return beanInfos.values().stream()
-                .filter(beanInfo -> beanInfo.getName().equals(beanName))
-                .findFirst()
-                .map(beanInfo -> getBean(beanInfo.getBeanClass()))
-                .orElseThrow(() -> new NoSuchElementException("No bean found with name: " + beanName));
-    }
+        String names = failedBeans.stream()
+                .map(beanClass -> beanClass.getName() + " (" + failures.get(beanClass).getMessage() + ")")
+                .collect(Collectors.joining(", "));
 
-    @SuppressWarnings("unchecked")
-    private <T> T createBeanFromMethod(Class<T> beanClass) {
-        BeanInfo beanInfo = beanInfos.get(beanClass);
-        if (beanInfo == null) {
-            throw new IllegalArgumentException("No BeanInfo found for: " + beanClass.getName());
+        IllegalStateException exception = new IllegalStateException(
+                "Cannot start DI Container: failed to create " + failedBeans.size() + " bean(s): " + names,
+                failures.get(failedBeans.get(0)));
+        for (Class<?> failedBean : failedBeans.subList(1, failedBeans.size())) {
+            exception.addSuppressed(failures.get(failedBean));
         }
 
-        logger.debug("Creating bean {} using factory method {}", beanClass.getSimpleName(),
-                beanInfo.getFactoryMethod().getName());
+        logger.error(exception.getMessage());
+        return exception;
+    }
+
+    public void register(Collection<Class<?>> components, List<BeanInfo> beans) {
+        refresh(graph -> graph.register(components, beans), beans);
+    }
+
+    public void unregister(Collection<Class<?>> components) {
+        refresh(graph -> graph.unregister(components), List.of());
+    }
+
+    private void refresh(Function<DependencyGraph, GraphChange> update, List<BeanInfo> beans) {
+        if (dependencyGraph == null) {
+            throw new IllegalStateException("DI Container was not created from a dependency graph and cannot be refreshed");
+        }
 
+        Lock writeLock = refreshLock.writeLock();
+        writeLock.lock();
         try {
-            Method factoryMethod = beanInfo.getFactoryMethod();
-            Object configInstance = beanInfo.getConfigInstance();
+            GraphChange change = update.apply(dependencyGraph);
+            BeanSlots previousSlots = this.slots;
+            Map<Class<?>, Integer> previousIds = new HashMap<>(beanIds);
+            Map<String, Class<?>> previousNames = new HashMap<>(beanNameIndex);
+            Map<String, Object> previousNamedBeans = new HashMap<>(namedBeans);
+            Map<Class<?>, Object> previousUnmanaged = new HashMap<>(unmanagedInstances);
+
+            try {
+                applyChange(change, previousSlots, beans);
+            } catch (RuntimeException | Error e) {
+                dependencyGraph.revert(change);
+                this.slots = previousSlots;
+                restore(beanIds, previousIds);
+                restore(beanNameIndex, previousNames);
+                restore(namedBeans, previousNamedBeans);
+                restore(unmanagedInstances, previousUnmanaged);
+                annotationIndex.clear();
+                beanVersion.incrementAndGet();
+                logger.error("DI Container refresh failed, previous state restored: {}", e.getMessage());
+                throw e;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void applyChange(GraphChange change, BeanSlots previousSlots, List<BeanInfo> beans) {
+        int capacity = dependencyGraph.getIdCapacity() > previousSlots.size() ?
+                Math.max(dependencyGraph.getIdCapacity(), previousSlots.size() * 2) : previousSlots.size();
+        BeanSlots slots = previousSlots.grow(capacity);
+
+        int[] order = change.getAffectedOrder();
+        for (int beanId : order) {
+            release(slots, beanId);
+        }
+        for (int beanId : change.getRemovedIds()) {
+            Class<?> beanClass = slots.beanClasses[beanId];
+            release(slots, beanId);
+            slots.beanClasses[beanId] = null;
+            slots.plans[beanId] = null;
+            slots.beanFactories[beanId] = null;
+            slots.creationTimes.set(beanId, 0);
+            beanIds.remove(beanClass);
+            beanNameIndex.values().removeIf(beanClass::equals);
+        }
+        for (int beanId : change.getChangedIds()) {
+            Class<?> beanClass = dependencyGraph.getBeanClass(beanId);
+            slots.beanClasses[beanId] = beanClass;
+            slots.plans[beanId] = dependencyGraph.getInjectionPlan(beanClass);
+            slots.beanFactories[beanId] = null;
+            beanIds.put(beanClass, beanId);
+            unmanagedInstances.remove(beanClass);
+        }
+        for (BeanInfo beanInfo : beans) {
+            beanNameIndex.putIfAbsent(beanInfo.getName(), beanInfo.getBeanClass());
+        }
 
-            if (configInstance == null) {
-                throw new IllegalStateException("No configuration instance available for factory method " +
-                        factoryMethod.getName() + " of bean " + beanClass.getName());
+        this.slots = slots;
+        annotationIndex.clear();
+        beanVersion.incrementAndGet();
+
+        if (started) {
+            for (int beanId : order) {
+                if (!isLazy(beanId)) {
+                    getBean(beanId);
+                }
             }
+            indexStereotypes();
+        }
+
+        logger.info("DI Container refreshed: {} bean(s) added, {} removed, {} affected",
+                change.getAddedIds().length, change.getRemovedIds().length, order.length);
+    }
+
+    private static <K, V> void restore(Map<K, V> map, Map<K, V> previous) {
+        map.keySet().retainAll(previous.keySet());
+        map.putAll(previous);
+    }
 
-            Parameter[] parameters = factoryMethod.getParameters();
-            Object[] parameterValues = new Object[parameters.length];
+    private void release(BeanSlots slots, int beanId) {
+        Object instance = slots.instances.getAndSet(beanId, null);
+        slots.lazyProxies.set(beanId, null);
 
-            for (int i = 0; i < parameters.length; i++) {
-                Parameter parameter = parameters[i];
-                Class<?> parameterType = parameter.getType();
+        InjectionPlan plan = slots.plans[beanId];
+        if (instance != null && plan != null && plan.isFactoryMethod()) {
+            namedBeans.remove(plan.getBeanName(), instance);
+        }
+    }
 
-                parameterValues[i] = getBean(parameterType);
-                logger.debug("  Injected {} into factory method {}",
-                        parameterType.getSimpleName(), factoryMethod.getName());
+    @SuppressWarnings("unchecked")
+    public <T> T getBean(Class<T> beanClass) {
+        BeanSlots slots = this.slots;
+        Integer beanId = beanIds.get(beanClass);
+        if (beanId != null && beanId < slots.size() && slots.beanClasses[beanId] == beanClass) {
+            Object instance = slots.instances.get(beanId);
+            if (instance != null) {
+                return (T) instance;
             }
+        }
 
-            factoryMethod.setAccessible(true);
-            T instance = (T) factoryMethod.invoke(configInstance, parameterValues);
-            instance = InterceptionProxyFactory.createProxy(instance);
+        Lock readLock = refreshLock.readLock();
+        readLock.lock();
+        try {
+            beanId = beanIds.get(beanClass);
+            if (beanId != null) {
+                return (T) getBean(beanId);
+            }
 
-            if (instance == null) {
-                throw new IllegalStateException("Factory method " + factoryMethod.getName() +
-                        " returned null for bean " + beanClass.getName());
+            Optional<Class<?>> implementation = planner.findComponentByType(beanClass);
+            if (implementation.isPresent() && beanIds.containsKey(implementation.get())) {
+                return (T) getBean(implementation.get());
             }
 
-            instances.put(beanClass, instance);
-            if (namedBeans.containsKey(beanInfo.getName())) {
-                throw new IllegalStateException("Bean name already exists: " + beanInfo.getName());
+            return (T) getUnmanagedBean(beanClass);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private Object getBean(int beanId) {
+        Object instance = slots.instances.get(beanId);
+        return instance != null ? instance : createBean(beanId);
+    }
+
+    private Object createBean(int beanId) {
+        Lock readLock = refreshLock.readLock();
+        readLock.lock();
+        try {
+            return createBean(slots, beanId);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private Object createBean(BeanSlots slots, int beanId) {
+        ReentrantLock lock = slots.locks[beanId];
+        if (lock.isHeldByCurrentThread()) {
+            throw new IllegalStateException("Circular dependency detected while creating " +
+                    slots.beanClasses[beanId].getName());
+        }
+
+        lock.lock();
+        try {
+            Object instance = slots.instances.get(beanId);
+            if (instance != null) {
+                return instance;
             }
-            namedBeans.put(beanInfo.getName(), instance);
 
-            logger.info("Successfully created bean {} using factory method {}",
-                    beanClass.getSimpleName(), factoryMethod.getName());
+            InjectionPlan plan = slots.plans[beanId];
+            if (plan == null) {
+                throw new IllegalStateException("Cannot find suitable constructor for " +
+                        slots.beanClasses[beanId].getName());
+            }
 
+            instance = plan.isFactoryMethod() ? createBeanFromMethod(plan) : createInstance(plan);
+            slots.instances.set(beanId, instance);
+            beanVersion.incrementAndGet();
             return instance;
-        } catch (IllegalAccessException | InvocationTargetException e) {
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Object getUnmanagedBean(Class<?> beanClass) {
+        Object existingInstance = unmanagedInstances.get(beanClass);
+        if (existingInstance != null) {
+            return existingInstance;
+        }
+
+        logger.debug("Creating instance of unregistered class {}", beanClass.getSimpleName());
+        InjectionPlan plan = getInjectionPlan(beanClass);
+        Object instance = plan.isFactoryMethod() ? createBeanFromMethod(plan) : createInstance(plan);
+
+        existingInstance = unmanagedInstances.putIfAbsent(beanClass, instance);
+        beanVersion.incrementAndGet();
+        return existingInstance != null ? existingInstance : instance;
+    }
+
+    private InjectionPlan getInjectionPlan(Class<?> beanClass) {
+        InjectionPlan plan = planner.planConstructor(beanClass);
+        if (plan == null) {
+            throw new IllegalStateException("Cannot find suitable constructor for " + beanClass.getName());
+        }
+        return plan;
+    }
+
+    public Object getBean(String beanName) {
+        Class<?> beanClass = beanNameIndex.get(beanName);
+        if (beanClass == null) {
+            throw new NoSuchElementException("No bean found with name: " + beanName);
+        }
+        return getBean(beanClass);
+    }
+
+    private Object createBeanFromMethod(InjectionPlan plan) {
+        Class<?> beanClass = plan.getBeanClass();
+        String factoryName = plan.getFactoryName();
+
+        logger.debug("Creating bean {} using factory method {}", beanClass.getSimpleName(), factoryName);
+
+        if (plan.getBeanFactory() == null && plan.getConfigInstance() == null) {
+            throw new IllegalStateException("No configuration instance available for factory method " +
+                    factoryName + " of bean " + beanClass.getName());
+        }
+
+        Object[] parameterValues = resolveArguments(plan);
+        long started = System.nanoTime();
+
+        Object instance;
+        try {
+            instance = getBeanFactory(plan).create(parameterValues);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException("Failed to create bean " + beanClass.getName() +
-                    " using factory method " + beanInfo.getFactoryMethod().getName(), e);
+                    " using factory method " + factoryName, e);
+        }
+
+        if (instance == null) {
+            throw new IllegalStateException("Factory method " + factoryName +
+                    " returned null for bean " + beanClass.getName());
+        }
+        interceptionContext.getCaches().drop(instance.getClass());
+        instance = InterceptionProxyFactory.createProxy(instance, interceptionContext);
+        recordCreationTime(plan, System.nanoTime() - started);
+
+        if (namedBeans.containsKey(plan.getBeanName())) {
+            throw new IllegalStateException("Bean name already exists: " + plan.getBeanName());
         }
+        namedBeans.put(plan.getBeanName(), instance);
+
+        logger.info("Successfully created bean {} using factory method {}",
+                beanClass.getSimpleName(), factoryName);
+
+        return instance;
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> T createInstance(Class<T> componentClass) {
+    private Object createInstance(InjectionPlan plan) {
+        Class<?> componentClass = plan.getBeanClass();
         logger.debug("Creating instance of {}", componentClass.getSimpleName());
 
+        Object[] parameterValues = resolveArguments(plan);
+        long started = System.nanoTime();
+
+        Object instance;
         try {
-            Constructor<?>[] constructors = componentClass.getDeclaredConstructors();
-            Constructor<?> constructor = dependencyGraph.findConstructor(constructors);
-
-            if (constructor == null) {
-                throw new IllegalStateException("Cannot find suitable constructor for " + componentClass.getName());
-            }
-
-            Parameter[] parameters = constructor.getParameters();
-            Object[] parameterValues = new Object[parameters.length];
-
-            for (int i = 0; i < parameters.length; i++) {
-                Parameter parameter = parameters[i];
-                Class<?> parameterType = parameter.getType();
-
-                Optional<Class<?>> dependencyClass = dependencyGraph.findComponentByType(parameterType, dependencyGraph.getGraph().vertexSet());
-
-                if (dependencyClass.isPresent()) {
-                    parameterValues[i] = getBean(dependencyClass.get());
-                    logger.debug("  Injected {} into {}",
-                            dependencyClass.get().getSimpleName(), componentClass.getSimpleName());
-                } else {
-                    if (isAutowiredRequired(constructor)) {
-                        throw new IllegalStateException(
-                                String.format("No component found for required dependency %s in %s",
-                                        parameterType.getName(), componentClass.getName())
-                        );
-                    } else {
-                        parameterValues[i] = null;
-                        logger.warn("Optional dependency not found: {} in {}",
-                                parameterType.getSimpleName(), componentClass.getSimpleName());
-                    }
-                }
+            instance = getBeanFactory(plan).create(parameterValues);
+        } catch (Error exception) {
+            throw exception;
+        } catch (Throwable exception) {
+            throw new RuntimeException("Failed to create instance of " + componentClass.getName(), exception);
+        }
+        interceptionContext.getCaches().drop(instance.getClass());
+        instance = InterceptionProxyFactory.createProxy(instance, interceptionContext);
+        recordCreationTime(plan, System.nanoTime() - started);
+
+        logger.info("Successfully created instance of {}", componentClass.getSimpleName());
+        return instance;
+    }
+
+    private void recordCreationTime(InjectionPlan plan, long nanos) {
+        if (plan.getBeanId() >= 0) {
+            slots.creationTimes.set(plan.getBeanId(), nanos);
+        }
+    }
+
+    public Map<Class<?>, Duration> getCreationTimes() {
+        BeanSlots slots = this.slots;
+        Map<Class<?>, Duration> result = new LinkedHashMap<>();
+        for (int beanId = 0; beanId < slots.size(); beanId++) {
+            if (slots.instances.get(beanId) != null) {
+                result.put(slots.beanClasses[beanId], Duration.ofNanos(slots.creationTimes.get(beanId)));
             }
+        }
+        return Collections.unmodifiableMap(result);
+    }
 
-            constructor.setAccessible(true);
-            T instance = (T) constructor.newInstance(parameterValues);
-            instance = InterceptionProxyFactory.createProxy(instance);
+    private BeanFactory getBeanFactory(InjectionPlan plan) {
+        if (plan.getBeanFactory() != null) {
+            return plan.getBeanFactory();
+        }
 
-            logger.info("Successfully created instance of {}", componentClass.getSimpleName());
-            return instance;
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
-            throw new RuntimeException("Failed to create instance of " + componentClass.getName(), exception);
+        int beanId = plan.getBeanId();
+        if (beanId < 0) {
+            return instantiationStrategy.createFactory(plan);
+        }
+
+        BeanFactory[] beanFactories = slots.beanFactories;
+        BeanFactory beanFactory = beanFactories[beanId];
+        if (beanFactory == null) {
+            beanFactory = instantiationStrategy.createFactory(plan);
+            beanFactories[beanId] = beanFactory;
         }
+        return beanFactory;
     }
 
-    private boolean isAutowiredRequired(Constructor<?> constructor) {
-        Autowired autowired = constructor.getAnnotation(Autowired.class);
-        return autowired == null || autowired.required();
+    private Object[] resolveArguments(InjectionPlan plan) {
+        Object[] parameterValues = new Object[plan.getDependencyCount()];
+
+        for (int i = 0; i < parameterValues.length; i++) {
+            int dependencyId = plan.getDependencyId(i);
+
+            if (dependencyId >= 0) {
+                parameterValues[i] = resolveDependency(dependencyId, plan.getParameterType(i));
+            } else if (plan.isRequired()) {
+                throw new IllegalStateException(
+                        String.format("No component found for required dependency %s in %s",
+                                plan.getParameterType(i).getName(), plan.getBeanClass().getName())
+                );
+            } else {
+                logger.warn("Optional dependency not found: {} in {}",
+                        plan.getParameterType(i).getSimpleName(), plan.getBeanClass().getSimpleName());
+            }
+        }
+
+        return parameterValues;
+    }
+
+    private Object resolveDependency(int dependencyId, Class<?> parameterType) {
+        BeanSlots slots = this.slots;
+        Object instance = slots.instances.get(dependencyId);
+        if (instance != null || slots.plans[dependencyId] == null || !slots.plans[dependencyId].isLazy()) {
+            return instance != null ? instance : createBean(dependencyId);
+        }
+
+        Object proxy = slots.lazyProxies.get(dependencyId);
+        if (proxy == null) {
+            proxy = LazyProxyFactory.createProxy(slots.beanClasses[dependencyId], () -> getBean(dependencyId));
+            if (proxy == null || !slots.lazyProxies.compareAndSet(dependencyId, null, proxy)) {
+                proxy = slots.lazyProxies.get(dependencyId);
+            }
+        }
+
+        if (proxy != null && parameterType.isInstance(proxy)) {
+            return proxy;
+        }
+
+        logger.debug("Cannot inject lazy proxy for {}, creating it eagerly",
+                slots.beanClasses[dependencyId].getSimpleName());
+        return getBean(dependencyId);
     }
 
     public Map<Class<?>, Object> getAllBeans() {
-        return Collections.unmodifiableMap(instances);
+        BeanSlots slots = this.slots;
+        Map<Class<?>, Object> result = new LinkedHashMap<>();
+        for (int beanId = 0; beanId < slots.size(); beanId++) {
+            Object instance = slots.instances.get(beanId);
+            if (instance != null) {
+                result.put(slots.beanClasses[beanId], instance);
+            }
+        }
+        result.putAll(unmanagedInstances);
+
+        return Collections.unmodifiableMap(result);
     }
 
     public Map<Class<?>, Object> getBeansWithAnnotation(Class<? extends Annotation> annotation) {
-        Map<Class<?>, Object> result = new HashMap<>();
-        instances.keySet().stream().filter(c -> c.isAnnotationPresent(annotation))
-                .forEach(c -> result.put(c, instances.get(c)));
+        long version = beanVersion.get();
+        AnnotatedBeans annotatedBeans = annotationIndex.get(annotation);
+        if (annotatedBeans != null && annotatedBeans.version == version) {
+            return annotatedBeans.beans;
+        }
 
-        return Collections.unmodifiableMap(result);
+        BeanSlots slots = this.slots;
+        int[] candidateIds = annotatedBeans != null ? annotatedBeans.candidateIds : findAnnotatedBeanIds(slots, annotation);
+
+        Map<Class<?>, Object> beans = new LinkedHashMap<>();
+        for (int beanId : candidateIds) {
+            Object instance = slots.instances.get(beanId);
+            if (instance != null) {
+                beans.put(slots.beanClasses[beanId], instance);
+            }
+        }
+        unmanagedInstances.forEach((beanClass, instance) -> {
+            if (beanClass.isAnnotationPresent(annotation)) {
+                beans.put(beanClass, instance);
+            }
+        });
+
+        annotatedBeans = new AnnotatedBeans(candidateIds, version, Collections.unmodifiableMap(beans));
+        annotationIndex.put(annotation, annotatedBeans);
+        return annotatedBeans.beans;
+    }
+
+    private int[] findAnnotatedBeanIds(BeanSlots slots, Class<? extends Annotation> annotation) {
+        return IntStream.range(0, slots.size())
+                .filter(beanId -> slots.beanClasses[beanId] != null &&
+                        slots.beanClasses[beanId].isAnnotationPresent(annotation))
+                .toArray();
+    }
+
+    private int countManagedBeans() {
+        BeanSlots slots = this.slots;
+        int count = 0;
+        for (int beanId = 0; beanId < slots.size(); beanId++) {
+            if (slots.instances.get(beanId) != null) {
+                count++;
+            }
+        }
+        return count;
     }
 
     public Map<String, Object> getNamedBeans() {
@@ -218,11 +650,94 @@ public class DIContainer {
         return Collections.unmodifiableSet(namedBeans.keySet());
     }
 
+    public InterceptionContext getInterceptionContext() {
+        return interceptionContext;
+    }
+
+    public Map<Method, TimingStatistics> getMethodTimings() {
+        return interceptionContext.getTimings().getStatistics();
+    }
+
+    public Map<Method, CacheStatistics> getCacheStatistics() {
+        return interceptionContext.getCaches().getStatistics();
+    }
+
+    public void registerExecutor(String name, Executor executor) {
+        interceptionContext.getExecutors().register(name, executor);
+    }
+
+    public Map<String, AsyncStatistics> getAsyncStatistics() {
+        return interceptionContext.getExecutors().getStatistics();
+    }
+
+    public Map<Method, BatchStatistics> getBatchStatistics() {
+        return interceptionContext.getBatches().getStatistics();
+    }
+
     public void shutdown() {
         logger.info("Shutting down DI Container...");
-        instances.clear();
+        started = false;
+        interceptionContext.close();
+        BeanSlots slots = this.slots;
+        for (int beanId = 0; beanId < slots.size(); beanId++) {
+            slots.instances.set(beanId, null);
+            slots.lazyProxies.set(beanId, null);
+        }
+        unmanagedInstances.clear();
+        annotationIndex.clear();
+        beanVersion.incrementAndGet();
         namedBeans.clear();
-        beanInfos.clear();
         logger.info("DI Container shut down");
     }
-}
\ No newline at end of file
+
+    private static class BeanSlots {
+        private final Class<?>[] beanClasses;
+        private final InjectionPlan[] plans;
+        private final BeanFactory[] beanFactories;
+        private final ReentrantLock[] locks;
+        private final AtomicReferenceArray<Object> instances;
+        private final AtomicReferenceArray<Object> lazyProxies;
+        private final AtomicLongArray creationTimes;
+
+        private BeanSlots(Class<?>[] beanClasses, InjectionPlan[] plans) {
+            this.beanClasses = beanClasses;
+            this.plans = plans;
+            this.beanFactories = new BeanFactory[beanClasses.length];
+            this.locks = new ReentrantLock[beanClasses.length];
+            this.instances = new AtomicReferenceArray<>(beanClasses.length);
+            this.lazyProxies = new AtomicReferenceArray<>(beanClasses.length);
+            this.creationTimes = new AtomicLongArray(beanClasses.length);
+            for (int i = 0; i < beanClasses.length; i++) {
+                locks[i] = new ReentrantLock();
+            }
+        }
+
+        private int size() {
+            return beanClasses.length;
+        }
+
+        private BeanSlots grow(int capacity) {
+            BeanSlots grown = new BeanSlots(Arrays.copyOf(beanClasses, capacity), Arrays.copyOf(plans, capacity));
+            System.arraycopy(beanFactories, 0, grown.beanFactories, 0, size());
+            System.arraycopy(locks, 0, grown.locks, 0, size());
+            for (int i = 0; i < size(); i++) {
+                grown.instances.set(i, instances.get(i));
+                grown.lazyProxies.set(i, lazyProxies.get(i));
+                grown.creationTimes.set(i, creationTimes.get(i));
+            }
+            return grown;
+        }
+    }
+
+    private static class AnnotatedBeans {
+        private final int[] candidateIds;
+        private final long version;
+        private final Map<Class<?>, Object> beans;
+
+        private AnnotatedBeans(int[] candidateIds, long version, Map<Class<?>, Object> beans) {
+            this.candidateIds = candidateIds;
+            this.version = version;
+            this.beans = beans;
+        }
+    }
+}
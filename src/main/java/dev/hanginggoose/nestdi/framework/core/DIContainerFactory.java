@@ -1,81 +1,155 @@
 package dev.hanginggoose.nestdi.framework.core;
 
+import dev.hanginggoose.nestdi.framework.graph.DependencyGraph;
 import dev.hanginggoose.nestdi.framework.graph.DependencyGraphBuilder;
-import dev.hanginggoose.nestdi.framework.scanning.ComponentScanner;
-import dev.hanginggoose.nestdi.framework.scanning.ConfigurationScanner;
+import dev.hanginggoose.nestdi.framework.scanning.ClassPathScanner;
+import dev.hanginggoose.nestdi.framework.scanning.ScanResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
 import java.util.*;
+import java.util.stream.Collectors;
 
 public class DIContainerFactory {
     private static final Logger logger = LoggerFactory.getLogger(DIContainerFactory.class);
+    public static final String WIRING_OPTION = "nestdi.wiring";
 
     public static DIContainer create(String basePackage) {
         logger.info("Creating DI Container for package: {}", basePackage);
 
-        ComponentScanner componentScanner = new ComponentScanner();
-        var components = componentScanner.scan(basePackage);
+        ScanResult scanResult = new ClassPathScanner().scan(basePackage);
+        Map<Class<?>, Object> configInstances = instantiateConfigurations(scanResult.getBeanMethods().keySet());
 
-        ConfigurationScanner configScanner = new ConfigurationScanner();
-        Map<Class<?>, List<BeanInfo>> beanMethods = configScanner.scanAllBeanMethods(basePackage);
+        return createContainer(scanResult, configInstances);
+    }
+
+    public static DIContainer create(String[] basePackages) {
+        logger.info("Creating DI Container for packages: {}", Arrays.toString(basePackages));
 
-        Map<Class<?>, Object> configInstances = instantiateConfigurations(beanMethods.keySet());
-        List<BeanInfo> completeBeanInfos = createCompleteBeanInfos(beanMethods, configInstances);
+        ClassPathScanner scanner = new ClassPathScanner();
+        List<ScanResult> scanResults = new ArrayList<>();
 
-        for (BeanInfo beanInfo : completeBeanInfos) {
-            components.add(beanInfo.getBeanClass());
+        for (String pkg : basePackages) {
+            scanResults.add(scanner.scan(pkg));
         }
 
-        DependencyGraphBuilder builder = new DependencyGraphBuilder();
-        var dependencyGraph = builder.build(components, completeBeanInfos);
+        ScanResult scanResult = ScanResult.merge(scanResults);
+        Map<Class<?>, Object> configInstances = instantiateConfigurations(scanResult.getBeanMethods().keySet());
 
-        return new DIContainer(dependencyGraph, completeBeanInfos);
+        return createContainer(scanResult, configInstances);
     }
 
-    public static DIContainer create(String[] basePackages) {
-        logger.info("Creating DI Container for packages: {}", Arrays.toString(basePackages));
+    public static DIContainer createParallel(String[] basePackages) {
+        logger.info("Creating DI Container for packages in parallel: {}", Arrays.toString(basePackages));
 
-        ComponentScanner componentScanner = new ComponentScanner();
-        Set<Class<?>> allComponents = new HashSet<>();
+        ClassPathScanner scanner = new ClassPathScanner();
+        List<ScanResult> scanResults = Arrays.stream(basePackages)
+                .parallel()
+                .map(scanner::scan)
+                .toList();
 
-        ConfigurationScanner configScanner = new ConfigurationScanner();
-        Map<Class<?>, List<BeanInfo>> allBeanMethods = new HashMap<>();
+        ScanResult scanResult = ScanResult.merge(scanResults);
+        Map<Class<?>, Object> configInstances = instantiateConfigurationsParallel(scanResult.getBeanMethods().keySet());
 
+        return createContainer(scanResult, configInstances);
+    }
+
+    public static DIContainer createFromSnapshot(Path snapshotFile, String[] basePackages) {
+        logger.info("Creating DI Container from snapshot {} for packages: {}", snapshotFile, Arrays.toString(basePackages));
+
+        ClassPathScanner scanner = new ClassPathScanner();
+        ContainerSnapshot snapshot = ContainerSnapshot.read(snapshotFile);
+
+        if (snapshot != null && snapshot.getPackages().equals(new HashSet<>(Arrays.asList(basePackages)))
+                && snapshot.isValid(scanner)) {
+            try {
+                DIContainer container = snapshot.restore(scanner.getClassLoader());
+                logger.info("Restored DI Container with {} beans from snapshot", snapshot.getBeanCount());
+                return container;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                logger.warn("Cannot restore container snapshot {}, rebuilding it: {}", snapshotFile, e.getMessage());
+            }
+        }
+
+        Map<String, String> packageFingerprints = new LinkedHashMap<>();
+        List<ScanResult> scanResults = new ArrayList<>();
         for (String pkg : basePackages) {
-            allComponents.addAll(componentScanner.scan(pkg));
-            allBeanMethods.putAll(configScanner.scanAllBeanMethods(pkg));
+            packageFingerprints.put(pkg, scanner.fingerprint(pkg));
+            scanResults.add(scanner.scan(pkg));
+        }
+
+        ScanResult scanResult = ScanResult.merge(scanResults);
+        Map<Class<?>, Object> configInstances = instantiateConfigurations(scanResult.getBeanMethods().keySet());
+        List<BeanInfo> completeBeanInfos = createCompleteBeanInfos(scanResult.getBeanMethods(), configInstances);
+        DependencyGraph dependencyGraph = buildGraph(scanResult, completeBeanInfos);
+
+        if (dependencyGraph.hasCycles()) {
+            logger.warn("Not writing container snapshot {}: dependency graph contains cycles", snapshotFile);
+        } else {
+            ContainerSnapshot.capture(dependencyGraph, packageFingerprints).write(snapshotFile);
+        }
+
+        return new DIContainer(dependencyGraph, completeBeanInfos);
+    }
+
+    public static DIContainer createFromWiring() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = DIContainerFactory.class.getClassLoader();
         }
 
-        Map<Class<?>, Object> configInstances = instantiateConfigurations(allBeanMethods.keySet());
-        List<BeanInfo> completeBeanInfos = createCompleteBeanInfos(allBeanMethods, configInstances);
+        ContainerWiring wiring = ServiceLoader.load(ContainerWiring.class, classLoader).findFirst()
+                .orElseThrow(() -> new IllegalStateException("No generated container wiring found. " +
+                        "Compile with the Nest DI annotation processor and -A" + WIRING_OPTION + "=<class name>"));
+
+        logger.info("Creating DI Container from generated wiring {}", wiring.getClass().getName());
+        return wiring.createContainer();
+    }
+
+    private static DIContainer createContainer(ScanResult scanResult, Map<Class<?>, Object> configInstances) {
+        List<BeanInfo> completeBeanInfos = createCompleteBeanInfos(scanResult.getBeanMethods(), configInstances);
+
+        return new DIContainer(buildGraph(scanResult, completeBeanInfos), completeBeanInfos);
+    }
 
+    private static DependencyGraph buildGraph(ScanResult scanResult, List<BeanInfo> completeBeanInfos) {
+        Set<Class<?>> components = new HashSet<>(scanResult.getComponents());
         for (BeanInfo beanInfo : completeBeanInfos) {
-            allComponents.add(beanInfo.getBeanClass());
+            components.add(beanInfo.getBeanClass());
         }
 
         DependencyGraphBuilder builder = new DependencyGraphBuilder();
-        var dependencyGraph = builder.build(allComponents, completeBeanInfos);
-
-        return new DIContainer(dependencyGraph, completeBeanInfos);
+        return builder.build(components, completeBeanInfos);
     }
 
     public static Map<Class<?>, Object> instantiateConfigurations(Set<Class<?>> configClasses) {
         Map<Class<?>, Object> configInstances = new HashMap<>();
 
         for (Class<?> configClass : configClasses) {
-            try {
-                Object instance = configClass.getDeclaredConstructor().newInstance();
-                configInstances.put(configClass, instance);
-                logger.debug("Instantiated configuration class: {}", configClass.getSimpleName());
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to instantiate configuration class: " + configClass.getName(), e);
-            }
+            configInstances.put(configClass, instantiateConfiguration(configClass));
         }
 
         return configInstances;
     }
 
+    public static Map<Class<?>, Object> instantiateConfigurationsParallel(Set<Class<?>> configClasses) {
+        return configClasses.parallelStream()
+                .collect(Collectors.toConcurrentMap(
+                        configClass -> configClass,
+                        DIContainerFactory::instantiateConfiguration));
+    }
+
+    private static Object instantiateConfiguration(Class<?> configClass) {
+        try {
+            Object instance = configClass.getDeclaredConstructor().newInstance();
+            logger.debug("Instantiated configuration class: {}", configClass.getSimpleName());
+            return instance;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to instantiate configuration class: " + configClass.getName(), e);
+        }
+    }
+
     public static List<BeanInfo> createCompleteBeanInfos(
             Map<Class<?>, List<BeanInfo>> beanMethods,
             Map<Class<?>, Object> configInstances) {
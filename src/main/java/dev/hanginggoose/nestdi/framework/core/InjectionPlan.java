@@ -0,0 +1,144 @@
+package dev.hanginggoose.nestdi.framework.core;
+
+import dev.hanginggoose.nestdi.framework.annotations.Lazy;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+
+public class InjectionPlan {
+    private final Class<?> beanClass;
+    private final int beanId;
+    private final Executable executable;
+    private final boolean factoryMethod;
+    private final Object configInstance;
+    private final String beanName;
+    private final Class<?>[] parameterTypes;
+    private final Class<?>[] dependencies;
+    private final int[] dependencyIds;
+    private final boolean required;
+    private final boolean lazy;
+    private final BeanFactory beanFactory;
+
+    private InjectionPlan(Class<?> beanClass, int beanId, Executable executable, boolean factoryMethod,
+                          Object configInstance, String beanName, Class<?>[] parameterTypes, Class<?>[] dependencies,
+                          int[] dependencyIds, boolean required, boolean lazy, BeanFactory beanFactory) {
+        this.beanClass = beanClass;
+        this.beanId = beanId;
+        this.executable = executable;
+        this.factoryMethod = factoryMethod;
+        this.configInstance = configInstance;
+        this.beanName = beanName;
+        this.parameterTypes = parameterTypes;
+        this.dependencies = dependencies;
+        this.dependencyIds = dependencyIds;
+        this.required = required;
+        this.lazy = lazy;
+        this.beanFactory = beanFactory;
+
+        if (executable != null) {
+            executable.setAccessible(true);
+        }
+    }
+
+    public static InjectionPlan forConstructor(Class<?> beanClass, int beanId, Constructor<?> constructor,
+                                               Class<?>[] dependencies, int[] dependencyIds, boolean required) {
+        return new InjectionPlan(beanClass, beanId, constructor, false, null, null, constructor.getParameterTypes(),
+                dependencies, dependencyIds, required, isLazy(beanClass), null);
+    }
+
+    public static InjectionPlan forFactoryMethod(BeanInfo beanInfo, int beanId, Class<?>[] dependencies,
+                                                 int[] dependencyIds) {
+        return new InjectionPlan(beanInfo.getBeanClass(), beanId, beanInfo.getFactoryMethod(), true,
+                beanInfo.getConfigInstance(), beanInfo.getName(), beanInfo.getFactoryMethod().getParameterTypes(),
+                dependencies, dependencyIds, true, isLazy(beanInfo.getFactoryMethod()), null);
+    }
+
+    public static InjectionPlan forGeneratedConstructor(Class<?> beanClass, int beanId, Class<?>[] parameterTypes,
+                                                        Class<?>[] dependencies, int[] dependencyIds,
+                                                        boolean required, boolean lazy, BeanFactory beanFactory) {
+        return new InjectionPlan(beanClass, beanId, null, false, null, null, parameterTypes,
+                dependencies, dependencyIds, required, lazy, beanFactory);
+    }
+
+    public static InjectionPlan forGeneratedFactoryMethod(String beanName, Class<?> beanClass, int beanId,
+                                                          Class<?>[] parameterTypes, Class<?>[] dependencies,
+                                                          int[] dependencyIds, boolean lazy, BeanFactory beanFactory) {
+        return new InjectionPlan(beanClass, beanId, null, true, null, beanName, parameterTypes,
+                dependencies, dependencyIds, true, lazy, beanFactory);
+    }
+
+    private static boolean isLazy(AnnotatedElement element) {
+        Lazy lazyAnnotation = element.getAnnotation(Lazy.class);
+        return lazyAnnotation != null && lazyAnnotation.value();
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public int getBeanId() {
+        return beanId;
+    }
+
+    public Executable getExecutable() {
+        return executable;
+    }
+
+    public boolean isFactoryMethod() {
+        return factoryMethod;
+    }
+
+    public String getFactoryName() {
+        return executable != null ? executable.getName() : beanName;
+    }
+
+    public Object getConfigInstance() {
+        return configInstance;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public Class<?>[] getParameterTypes() {
+        return parameterTypes.clone();
+    }
+
+    public Class<?> getParameterType(int index) {
+        return parameterTypes[index];
+    }
+
+    public int getDependencyCount() {
+        return dependencies.length;
+    }
+
+    public Class<?> getDependency(int index) {
+        return dependencies[index];
+    }
+
+    public int getDependencyId(int index) {
+        return dependencyIds[index];
+    }
+
+    public boolean isRequired() {
+        return required;
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public BeanFactory getBeanFactory() {
+        return beanFactory;
+    }
+
+    @Override
+    public String toString() {
+        return "InjectionPlan{" +
+                "beanClass=" + beanClass.getSimpleName() +
+                ", executable=" + (executable != null ? executable.getName() : "generated") +
+                ", dependencies=" + dependencies.length +
+                '}';
+    }
+}
@@ -0,0 +1,74 @@
+package dev.hanginggoose.nestdi.framework.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+public enum InstantiationStrategy {
+    REFLECTIVE {
+        @Override
+        public BeanFactory createFactory(InjectionPlan plan) {
+            if (plan.isFactoryMethod()) {
+                Method factoryMethod = (Method) plan.getExecutable();
+                Object configInstance = plan.getConfigInstance();
+                return arguments -> {
+                    try {
+                        return factoryMethod.invoke(configInstance, arguments);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                };
+            }
+
+            Constructor<?> constructor = (Constructor<?>) plan.getExecutable();
+            return arguments -> {
+                try {
+                    return constructor.newInstance(arguments);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            };
+        }
+    },
+
+    METHOD_HANDLE {
+        @Override
+        public BeanFactory createFactory(InjectionPlan plan) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                MethodHandle handle;
+
+                if (plan.isFactoryMethod()) {
+                    Method factoryMethod = (Method) plan.getExecutable();
+                    handle = lookup.unreflect(factoryMethod);
+                    if (!Modifier.isStatic(factoryMethod.getModifiers())) {
+                        handle = handle.bindTo(plan.getConfigInstance());
+                    }
+                } else {
+                    handle = lookup.unreflectConstructor((Constructor<?>) plan.getExecutable());
+                }
+
+                MethodHandle spreader = handle
+                        .asSpreader(Object[].class, plan.getDependencyCount())
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+
+                return arguments -> (Object) spreader.invokeExact(arguments);
+            } catch (IllegalAccessException | RuntimeException e) {
+                logger.debug("Falling back to reflective instantiation for {}: {}",
+                        plan.getBeanClass().getSimpleName(), e.getMessage());
+                return REFLECTIVE.createFactory(plan);
+            }
+        }
+    };
+
+    private static final Logger logger = LoggerFactory.getLogger(InstantiationStrategy.class);
+
+    public abstract BeanFactory createFactory(InjectionPlan plan);
+}
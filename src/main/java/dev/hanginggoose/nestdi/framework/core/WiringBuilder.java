@@ -0,0 +1,60 @@
+package dev.hanginggoose.nestdi.framework.core;
+
+import dev.hanginggoose.nestdi.framework.graph.InjectionPlanner;
+import dev.hanginggoose.nestdi.framework.graph.TypeIndex;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+public class WiringBuilder {
+    private final List<Class<?>> beanClasses = new ArrayList<>();
+    private final List<InjectionPlan> plans = new ArrayList<>();
+    private final List<BeanInfo> beanInfos = new ArrayList<>();
+
+    public WiringBuilder component(Class<?> beanClass, Class<?>[] parameterTypes, int[] dependencyIds,
+                                   boolean required, boolean lazy, BeanFactory beanFactory) {
+        int beanId = beanClasses.size();
+        plans.add(InjectionPlan.forGeneratedConstructor(beanClass, beanId, parameterTypes,
+                dependenciesOf(beanClass, dependencyIds), dependencyIds, required, lazy, beanFactory));
+        beanClasses.add(beanClass);
+        return this;
+    }
+
+    public WiringBuilder bean(String name, Class<?> beanClass, Class<?>[] parameterTypes, int[] dependencyIds,
+                              boolean lazy, BeanFactory beanFactory) {
+        int beanId = beanClasses.size();
+        plans.add(InjectionPlan.forGeneratedFactoryMethod(name, beanClass, beanId, parameterTypes,
+                dependenciesOf(beanClass, dependencyIds), dependencyIds, lazy, beanFactory));
+        beanClasses.add(beanClass);
+        beanInfos.add(new BeanInfo(name, beanClass, null, null));
+        return this;
+    }
+
+    private Class<?>[] dependenciesOf(Class<?> beanClass, int[] dependencyIds) {
+        Class<?>[] dependencies = new Class<?>[dependencyIds.length];
+        for (int i = 0; i < dependencyIds.length; i++) {
+            if (dependencyIds[i] >= beanClasses.size()) {
+                throw new IllegalStateException("Generated wiring for " + beanClass.getName() +
+                        " refers to bean " + dependencyIds[i] + " before it is registered");
+            }
+            dependencies[i] = dependencyIds[i] >= 0 ? beanClasses.get(dependencyIds[i]) : null;
+        }
+        return dependencies;
+    }
+
+    public DIContainer build() {
+        Map<Class<?>, Integer> beanIds = new HashMap<>();
+        for (int i = 0; i < beanClasses.size(); i++) {
+            beanIds.put(beanClasses.get(i), i);
+        }
+
+        InjectionPlanner planner = new InjectionPlanner(new TypeIndex(beanClasses), beanIds);
+        int[] instantiationOrder = IntStream.range(0, beanClasses.size()).toArray();
+
+        return new DIContainer(beanClasses, plans.toArray(new InjectionPlan[0]), planner, instantiationOrder,
+                beanInfos, InstantiationStrategy.METHOD_HANDLE);
+    }
+}
@@ -0,0 +1,25 @@
+package dev.hanginggoose.nestdi.framework.graph;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class CyclicDependencyException extends IllegalStateException {
+    private final List<DependencyCycle> cycles;
+
+    public CyclicDependencyException(String message, List<DependencyCycle> cycles) {
+        super(message + ": " + describe(cycles));
+        this.cycles = List.copyOf(cycles);
+    }
+
+    public List<DependencyCycle> getCycles() {
+        return cycles;
+    }
+
+    private static String describe(List<DependencyCycle> cycles) {
+        return cycles.stream()
+                .map(cycle -> cycle + cycle.getEdges().stream()
+                        .map(edge -> "\n    " + edge)
+                        .collect(Collectors.joining()))
+                .collect(Collectors.joining("\n  ", "\n  ", ""));
+    }
+}
@@ -0,0 +1,40 @@
+package dev.hanginggoose.nestdi.framework.graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class DependencyCycle {
+    private final List<DependencyEdge> edges;
+    private final List<Class<?>> components;
+
+    public DependencyCycle(List<DependencyEdge> edges, List<Class<?>> components) {
+        this.edges = List.copyOf(edges);
+        this.components = List.copyOf(components);
+    }
+
+    public List<DependencyEdge> getEdges() {
+        return edges;
+    }
+
+    public List<Class<?>> getPath() {
+        List<Class<?>> path = new ArrayList<>();
+        for (DependencyEdge edge : edges) {
+            path.add(edge.getDependent());
+        }
+        path.add(edges.get(0).getDependent());
+        return Collections.unmodifiableList(path);
+    }
+
+    public List<Class<?>> getComponents() {
+        return components;
+    }
+
+    @Override
+    public String toString() {
+        return getPath().stream()
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(" -> "));
+    }
+}
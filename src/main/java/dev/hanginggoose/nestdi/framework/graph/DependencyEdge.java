@@ -0,0 +1,58 @@
+package dev.hanginggoose.nestdi.framework.graph;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public class DependencyEdge {
+    private final Class<?> dependent;
+    private final Class<?> dependency;
+    private final Executable injectionPoint;
+    private final int parameterIndex;
+
+    public DependencyEdge(Class<?> dependent, Class<?> dependency, Executable injectionPoint, int parameterIndex) {
+        this.dependent = dependent;
+        this.dependency = dependency;
+        this.injectionPoint = injectionPoint;
+        this.parameterIndex = parameterIndex;
+    }
+
+    public Class<?> getDependent() {
+        return dependent;
+    }
+
+    public Class<?> getDependency() {
+        return dependency;
+    }
+
+    public Executable getInjectionPoint() {
+        return injectionPoint;
+    }
+
+    public int getParameterIndex() {
+        return parameterIndex;
+    }
+
+    public boolean isFactoryMethod() {
+        return injectionPoint != null && !(injectionPoint instanceof Constructor);
+    }
+
+    @Override
+    public String toString() {
+        String edge = dependent.getSimpleName() + " -> " + dependency.getSimpleName();
+        if (injectionPoint == null) {
+            return edge;
+        }
+
+        String parameters = Arrays.stream(injectionPoint.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(", "));
+        String owner = injectionPoint.getDeclaringClass().getSimpleName();
+        String signature = injectionPoint instanceof Constructor
+                ? "constructor " + owner + "(" + parameters + ")"
+                : "@Bean method " + owner + "." + injectionPoint.getName() + "(" + parameters + ")";
+
+        return edge + " (parameter " + parameterIndex + " of " + signature + ")";
+    }
+}
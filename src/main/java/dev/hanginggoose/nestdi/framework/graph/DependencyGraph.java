@@ -1,169 +1,754 @@
 package dev.hanginggoose.nestdi.framework.graph;
 
-import dev.hanginggoose.nestdi.framework.annotations.Autowired;
 import dev.hanginggoose.nestdi.framework.core.BeanInfo;
-import org.jgrapht.alg.cycle.CycleDetector;
-import org.jgrapht.graph.DefaultEdge;
-import org.jgrapht.graph.SimpleDirectedGraph;
+import dev.hanginggoose.nestdi.framework.core.InjectionPlan;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
 
 public class DependencyGraph {
 
     private static final Logger logger = LoggerFactory.getLogger(DependencyGraph.class);
-    private final SimpleDirectedGraph<Class<?>, DefaultEdge> graph;
-    private final CycleDetector<Class<?>, DefaultEdge> cycleDetector;
+    private static final int[] NO_IDS = new int[0];
+    private final Map<Class<?>, InjectionPlan> plans = new HashMap<>();
+    private final Map<Class<?>, BeanInfo> beanInfos = new HashMap<>();
+    private final Map<Class<?>, Set<Integer>> consumers = new HashMap<>();
+    private final TypeIndex typeIndex = new TypeIndex();
+    private final Map<Class<?>, Integer> beanIds = new HashMap<>();
+    private final List<Class<?>> beanClasses = new ArrayList<>();
+    private final List<int[]> dependencyRows = new ArrayList<>();
+    private final List<int[]> dependentRows = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private final InjectionPlanner planner = new InjectionPlanner(typeIndex, beanIds);
+    private int edgeCount;
+    private GraphChange lastChange;
+
+    private int[] dependentOffsets;
+    private int[] dependents;
+    private int[] dependencyOffsets;
+    private int[] dependencies;
+    private int[] topologicalOrder;
+    private boolean cyclic;
+    private List<DependencyCycle> cycles;
+    private boolean analyzed;
 
-    public DependencyGraph() {
-        this.graph = new SimpleDirectedGraph<>(DefaultEdge.class);
-        this.cycleDetector = new CycleDetector<>(graph);
+    public void addComponent(Class<?> componentClass) {
+        if (!beanIds.containsKey(componentClass)) {
+            addComponent(componentClass, freeIds.isEmpty() ? beanClasses.size() : freeIds.pop());
+        }
     }
 
-    public void addComponent(Class<?> componentClass) {
-        if (!graph.containsVertex(componentClass)) {
-            graph.addVertex(componentClass);
-            logger.debug("Added vertex: {}", componentClass.getSimpleName());
+    private void addComponent(Class<?> componentClass, int beanId) {
+        if (beanId == beanClasses.size()) {
+            beanClasses.add(componentClass);
+            dependencyRows.add(NO_IDS);
+            dependentRows.add(NO_IDS);
+        } else {
+            beanClasses.set(beanId, componentClass);
         }
+
+        typeIndex.add(componentClass);
+        beanIds.put(componentClass, beanId);
+        invalidate();
+        logger.debug("Added vertex: {}", componentClass.getSimpleName());
     }
 
-    public void analyzeDependencies(Class<?> componentClass, Set<Class<?>> allComponents) {
-        Constructor<?>[] constructors = componentClass.getDeclaredConstructors();
-        Constructor<?> chosenConstructor = findConstructor(constructors);
+    public boolean containsComponent(Class<?> componentClass) {
+        return beanIds.containsKey(componentClass);
+    }
+
+    public void analyzeDependencies(Class<?> componentClass) {
+        InjectionPlan plan = planner.planConstructor(componentClass);
 
-        if (chosenConstructor != null) {
-            Parameter[] parameters = chosenConstructor.getParameters();
-            analyzeParameters(componentClass, componentClass.getSimpleName(), parameters, allComponents);
+        if (plan != null) {
+            setPlan(componentClass, plan);
         }
     }
 
-    public void analyzeBeanDependencies(BeanInfo beanInfo, Set<Class<?>> allComponents) {
-        Method beanMethod = beanInfo.getFactoryMethod();
-        if (beanMethod != null) {
-            Parameter[] parameters = beanMethod.getParameters();
-            analyzeParameters(beanInfo.getBeanClass(), beanMethod.getName(), parameters, allComponents);
+    public void analyzeBeanDependencies(BeanInfo beanInfo) {
+        InjectionPlan plan = planner.planFactoryMethod(beanInfo);
+
+        if (plan != null) {
+            beanInfos.put(beanInfo.getBeanClass(), beanInfo);
+            setPlan(beanInfo.getBeanClass(), plan);
         }
     }
 
-    private void analyzeParameters(Class<?> className, String source, Parameter[] parameters, Set<Class<?>> allComponents) {
-        for (Parameter parameter : parameters) {
-            Class<?> parameterType = parameter.getType();
+    public GraphChange register(Collection<Class<?>> components, List<BeanInfo> beans) {
+        Set<Class<?>> added = new LinkedHashSet<>();
+        for (BeanInfo beanInfo : beans) {
+            if (containsComponent(beanInfo.getBeanClass())) {
+                throw new IllegalStateException("Component already registered: " + beanInfo.getBeanClass().getName());
+            }
+            added.add(beanInfo.getBeanClass());
+        }
+        for (Class<?> component : components) {
+            if (!containsComponent(component)) {
+                added.add(component);
+            }
+        }
 
-            Optional<Class<?>> dependency = findComponentByType(parameterType, allComponents);
+        Map<Class<?>, InjectionPlan> previousPlans = new HashMap<>();
+        try {
+            for (Class<?> component : added) {
+                addComponent(component);
+            }
 
-            if (dependency.isPresent()) {
-                addDependency(dependency.get(), className);
-            } else {
-                logger.warn("No component found for dependency type: {} in bean method {}",
-                        parameterType.getSimpleName(),
-                        source);
+            Set<Integer> changed = new TreeSet<>();
+            for (BeanInfo beanInfo : beans) {
+                analyzeBeanDependencies(beanInfo);
+                changed.add(getBeanId(beanInfo.getBeanClass()));
             }
+            for (Class<?> component : added) {
+                if (!beanInfos.containsKey(component)) {
+                    analyzeDependencies(component);
+                    changed.add(getBeanId(component));
+                }
+            }
+            replanConsumers(added, changed, previousPlans);
+
+            GraphChange change = createChange(toIds(added), NO_IDS, changed,
+                    () -> undoRegister(added, previousPlans));
+            logger.debug("Registered {} component(s): {}", added.size(), change);
+            return lastChange = change;
+        } catch (RuntimeException e) {
+            undoRegister(added, previousPlans);
+            throw e;
         }
     }
 
-    private void addDependency(Class<?> source, Class<?> target) {
-        if (!graph.containsEdge(source, target)) {
-            graph.addEdge(source, target);
-            logger.debug("Added edge from {} to {}",
-                    source.getSimpleName(),
-                    target.getSimpleName());
+    private void undoRegister(Set<Class<?>> added, Map<Class<?>, InjectionPlan> previousPlans) {
+        List<Class<?>> components = new ArrayList<>(added);
+        Collections.reverse(components);
+        for (Class<?> component : components) {
+            Integer beanId = beanIds.get(component);
+            if (beanId != null) {
+                removeComponent(beanId);
+                freeIds.push(beanId);
+            }
         }
+        previousPlans.forEach(this::setPlan);
     }
 
-    public Set<Class<?>> getCycles() {
-        return cycleDetector.findCycles();
+    public GraphChange unregister(Collection<Class<?>> components) {
+        Map<Class<?>, Integer> removed = new LinkedHashMap<>();
+        Map<Class<?>, InjectionPlan> removedPlans = new HashMap<>();
+        Map<Class<?>, BeanInfo> removedBeans = new HashMap<>();
+        for (Class<?> component : components) {
+            Integer beanId = beanIds.get(component);
+            if (beanId != null) {
+                removed.put(component, beanId);
+                removedPlans.put(component, plans.get(component));
+                removedBeans.put(component, beanInfos.get(component));
+            }
+        }
+
+        Set<Integer> changed = new TreeSet<>();
+        Map<Class<?>, InjectionPlan> previousPlans = new HashMap<>();
+        for (int beanId : removed.values()) {
+            for (int dependent : dependentRows.get(beanId)) {
+                changed.add(dependent);
+            }
+            removeComponent(beanId);
+        }
+
+        try {
+            replanConsumers(removed.keySet(), changed, previousPlans);
+            changed.removeAll(removed.values());
+
+            GraphChange change = createChange(NO_IDS, removed.values().stream().mapToInt(Integer::intValue).toArray(),
+                    changed, () -> {
+                        freeIds.removeAll(removed.values());
+                        undoUnregister(removed, removedPlans, removedBeans, previousPlans);
+                    });
+            freeIds.addAll(removed.values());
+            logger.debug("Unregistered {} component(s): {}", removed.size(), change);
+            return lastChange = change;
+        } catch (RuntimeException e) {
+            undoUnregister(removed, removedPlans, removedBeans, previousPlans);
+            throw e;
+        }
     }
 
-    public List<Class<?>> getTopologicalOrder() {
-        if (hasCycles()) {
-            throw new IllegalStateException("Cannot get topological order: graph contains cycles");
+    private void undoUnregister(Map<Class<?>, Integer> removed, Map<Class<?>, InjectionPlan> removedPlans,
+                                Map<Class<?>, BeanInfo> removedBeans, Map<Class<?>, InjectionPlan> previousPlans) {
+        removed.forEach((component, beanId) -> {
+            addComponent(component, beanId);
+            if (removedBeans.get(component) != null) {
+                beanInfos.put(component, removedBeans.get(component));
+            }
+            if (removedPlans.get(component) != null) {
+                setPlan(component, removedPlans.get(component));
+            }
+        });
+        previousPlans.forEach(this::setPlan);
+    }
+
+    public void revert(GraphChange change) {
+        if (change != lastChange) {
+            throw new IllegalStateException("Only the most recent graph change can be reverted");
         }
 
-        Map<Class<?>, Integer> inDegree = new HashMap<>();
-        List<Class<?>> result = new ArrayList<>();
+        lastChange = null;
+        change.undo();
+        logger.debug("Reverted graph change: {}", change);
+    }
+
+    private void removeComponent(int beanId) {
+        Class<?> componentClass = beanClasses.get(beanId);
 
-        for (Class<?> vertex : graph.vertexSet()) {
-            inDegree.put(vertex, graph.inDegreeOf(vertex));
+        for (int dependent : dependentRows.get(beanId)) {
+            dependencyRows.set(dependent, without(dependencyRows.get(dependent), beanId));
+            edgeCount--;
         }
+        dependentRows.set(beanId, NO_IDS);
+        setDependencies(beanId, NO_IDS);
 
-        Queue<Class<?>> queue = new LinkedList<>();
-        for (Class<?> vertex : graph.vertexSet()) {
-            if (inDegree.get(vertex) == 0) {
-                queue.add(vertex);
+        InjectionPlan plan = plans.remove(componentClass);
+        if (plan != null) {
+            removeConsumer(plan, beanId);
+        }
+        beanInfos.remove(componentClass);
+        typeIndex.remove(componentClass);
+        beanIds.remove(componentClass);
+        beanClasses.set(beanId, null);
+        invalidate();
+        logger.debug("Removed vertex: {}", componentClass.getSimpleName());
+    }
+
+    private void replanConsumers(Set<Class<?>> changedClasses, Set<Integer> changed,
+                                 Map<Class<?>, InjectionPlan> previousPlans) {
+        Set<Integer> consumerIds = new TreeSet<>();
+        for (Class<?> changedClass : changedClasses) {
+            for (Class<?> type : TypeIndex.typesOf(changedClass)) {
+                consumerIds.addAll(consumers.getOrDefault(type, Set.of()));
             }
         }
 
+        for (int consumerId : consumerIds) {
+            Class<?> consumer = beanClasses.get(consumerId);
+            if (consumer == null || changedClasses.contains(consumer)) {
+                continue;
+            }
+
+            InjectionPlan previous = plans.get(consumer);
+            BeanInfo beanInfo = beanInfos.get(consumer);
+            InjectionPlan plan = beanInfo != null ? planner.planFactoryMethod(beanInfo) : planner.planConstructor(consumer);
+
+            previousPlans.putIfAbsent(consumer, previous);
+            setPlan(consumer, plan);
+            if (!sameDependencies(previous, plan)) {
+                changed.add(consumerId);
+            }
+        }
+    }
+
+    private static boolean sameDependencies(InjectionPlan previous, InjectionPlan plan) {
+        if (previous == null || plan == null || previous.getDependencyCount() != plan.getDependencyCount()) {
+            return previous == plan;
+        }
+
+        for (int i = 0; i < plan.getDependencyCount(); i++) {
+            if (previous.getDependencyId(i) != plan.getDependencyId(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private GraphChange createChange(int[] addedIds, int[] removedIds, Set<Integer> changed, Runnable undo) {
+        int[] changedIds = changed.stream().mapToInt(Integer::intValue).toArray();
+
+        boolean[] affected = new boolean[beanClasses.size()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int beanId : changedIds) {
+            affected[beanId] = true;
+            queue.add(beanId);
+        }
+        int affectedCount = changedIds.length;
         while (!queue.isEmpty()) {
-            Class<?> current = queue.poll();
-            result.add(current);
-
-            for (DefaultEdge edge : graph.outgoingEdgesOf(current)) {
-                Class<?> neighbor = graph.getEdgeTarget(edge);
-                inDegree.put(neighbor, inDegree.get(neighbor) - 1);
-                if (inDegree.get(neighbor) == 0) {
-                    queue.add(neighbor);
+            for (int dependent : dependentRows.get(queue.poll())) {
+                if (!affected[dependent]) {
+                    affected[dependent] = true;
+                    affectedCount++;
+                    queue.add(dependent);
                 }
             }
         }
 
-        if (result.size() != graph.vertexSet().size()) {
-            throw new IllegalStateException("Unexpected error: topological sort incomplete (possible undetected cycle)");
+        Map<Integer, Integer> inDegree = new HashMap<>();
+        for (int beanId = 0; beanId < affected.length; beanId++) {
+            if (affected[beanId]) {
+                int degree = 0;
+                for (int dependency : dependencyRows.get(beanId)) {
+                    if (affected[dependency]) {
+                        degree++;
+                    }
+                }
+                inDegree.put(beanId, degree);
+                if (degree == 0) {
+                    queue.add(beanId);
+                }
+            }
         }
 
+        int[] order = new int[affectedCount];
+        int size = 0;
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            order[size++] = current;
+            for (int dependent : dependentRows.get(current)) {
+                if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                    queue.add(dependent);
+                }
+            }
+        }
+
+        if (size != affectedCount) {
+            throw new CyclicDependencyException("Cannot refresh dependency graph: Cyclic dependencies detected",
+                    findCycles());
+        }
+
+        return new GraphChange(addedIds, removedIds, changedIds, order, undo);
+    }
+
+    private int[] toIds(Collection<Class<?>> components) {
+        return components.stream().mapToInt(this::getBeanId).toArray();
+    }
+
+    private void setPlan(Class<?> beanClass, InjectionPlan plan) {
+        InjectionPlan previous = plan != null ? plans.put(beanClass, plan) : plans.remove(beanClass);
+        Integer beanId = beanIds.get(beanClass);
+        if (beanId == null) {
+            return;
+        }
+
+        if (previous != null) {
+            removeConsumer(previous, beanId);
+        }
+        if (plan == null) {
+            setDependencies(beanId, NO_IDS);
+            return;
+        }
+
+        int[] dependencyIds = new int[plan.getDependencyCount()];
+        int size = 0;
+        for (int i = 0; i < plan.getDependencyCount(); i++) {
+            consumers.computeIfAbsent(plan.getParameterType(i), type -> new HashSet<>()).add(beanId);
+            if (plan.getDependencyId(i) >= 0) {
+                dependencyIds[size++] = plan.getDependencyId(i);
+            }
+        }
+        setDependencies(beanId, Arrays.copyOf(dependencyIds, size));
+    }
+
+    private void removeConsumer(InjectionPlan plan, int beanId) {
+        for (int i = 0; i < plan.getDependencyCount(); i++) {
+            Set<Integer> ids = consumers.get(plan.getParameterType(i));
+            if (ids != null) {
+                ids.remove(beanId);
+                if (ids.isEmpty()) {
+                    consumers.remove(plan.getParameterType(i));
+                }
+            }
+        }
+    }
+
+    private void setDependencies(int beanId, int[] dependencyIds) {
+        int[] row = Arrays.stream(dependencyIds).sorted().distinct().toArray();
+
+        for (int dependency : dependencyRows.get(beanId)) {
+            dependentRows.set(dependency, without(dependentRows.get(dependency), beanId));
+        }
+        for (int dependency : row) {
+            dependentRows.set(dependency, with(dependentRows.get(dependency), beanId));
+        }
+
+        edgeCount += row.length - dependencyRows.get(beanId).length;
+        dependencyRows.set(beanId, row);
+        invalidate();
+    }
+
+    private static int[] with(int[] row, int beanId) {
+        int index = Arrays.binarySearch(row, beanId);
+        if (index >= 0) {
+            return row;
+        }
+
+        int insertion = -index - 1;
+        int[] result = new int[row.length + 1];
+        System.arraycopy(row, 0, result, 0, insertion);
+        result[insertion] = beanId;
+        System.arraycopy(row, insertion, result, insertion + 1, row.length - insertion);
         return result;
     }
 
-    public boolean hasCycles() {
-        return cycleDetector.detectCycles();
+    private static int[] without(int[] row, int beanId) {
+        int index = Arrays.binarySearch(row, beanId);
+        if (index < 0) {
+            return row;
+        }
+
+        int[] result = new int[row.length - 1];
+        System.arraycopy(row, 0, result, 0, index);
+        System.arraycopy(row, index + 1, result, index, row.length - index - 1);
+        return result;
     }
 
-    public Constructor<?> findConstructor(Constructor<?>[] constructors) {
-        if (constructors.length == 1) {
-            return constructors[0];
+    public InjectionPlan getInjectionPlan(Class<?> beanClass) {
+        InjectionPlan plan = plans.get(beanClass);
+        return plan != null ? plan : planner.planConstructor(beanClass);
+    }
+
+    public int getBeanId(Class<?> beanClass) {
+        return planner.getBeanId(beanClass);
+    }
+
+    public Class<?> getBeanClass(int beanId) {
+        return beanClasses.get(beanId);
+    }
+
+    public List<Class<?>> getBeanClasses() {
+        return beanClasses.stream().filter(Objects::nonNull).toList();
+    }
+
+    public int getBeanCount() {
+        return beanIds.size();
+    }
+
+    public int getIdCapacity() {
+        return beanClasses.size();
+    }
+
+    public Map<Class<?>, Integer> getBeanIds() {
+        return Collections.unmodifiableMap(beanIds);
+    }
+
+    public void addDependency(Class<?> dependency, Class<?> dependent) {
+        Integer source = beanIds.get(dependency);
+        Integer target = beanIds.get(dependent);
+        if (source == null || target == null) {
+            throw new IllegalArgumentException("Both components must be added before a dependency between " +
+                    dependency.getName() + " and " + dependent.getName());
         }
 
-        for (Constructor<?> constructor : constructors) {
-            if (constructor.isAnnotationPresent(Autowired.class)) {
-                return constructor;
+        int[] row = dependencyRows.get(target);
+        int[] updated = with(row, source);
+        if (updated != row) {
+            dependencyRows.set(target, updated);
+            dependentRows.set(source, with(dependentRows.get(source), target));
+            edgeCount++;
+            invalidate();
+        }
+
+        logger.debug("Added edge from {} to {}",
+                dependency.getSimpleName(),
+                dependent.getSimpleName());
+    }
+
+    private void invalidate() {
+        analyzed = false;
+        cycles = null;
+        lastChange = null;
+    }
+
+    private void analyze() {
+        if (analyzed) {
+            return;
+        }
+
+        int vertexCount = beanClasses.size();
+        dependentOffsets = new int[vertexCount + 1];
+        dependents = compress(dependentRows, dependentOffsets);
+        dependencyOffsets = new int[vertexCount + 1];
+        dependencies = compress(dependencyRows, dependencyOffsets);
+
+        int[] inDegree = new int[vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            inDegree[vertex] = dependencyOffsets[vertex + 1] - dependencyOffsets[vertex];
+        }
+
+        int[] order = new int[vertexCount];
+        int head = 0;
+        int tail = 0;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            if (inDegree[vertex] == 0 && beanClasses.get(vertex) != null) {
+                order[tail++] = vertex;
+            }
+        }
+
+        while (head < tail) {
+            int current = order[head++];
+            for (int i = dependentOffsets[current]; i < dependentOffsets[current + 1]; i++) {
+                if (--inDegree[dependents[i]] == 0) {
+                    order[tail++] = dependents[i];
+                }
             }
         }
 
-        return Arrays.stream(constructors)
-                .max(Comparator.comparingInt(Constructor::getParameterCount))
-                .orElse(null);
+        cyclic = tail != beanIds.size();
+        topologicalOrder = cyclic ? null : Arrays.copyOf(order, tail);
+        analyzed = true;
+    }
+
+    private int[] compress(List<int[]> rows, int[] offsets) {
+        int[] adjacency = new int[edgeCount];
+        int size = 0;
+        for (int vertex = 0; vertex < rows.size(); vertex++) {
+            int[] row = rows.get(vertex);
+            offsets[vertex] = size;
+            System.arraycopy(row, 0, adjacency, size, row.length);
+            size += row.length;
+        }
+        offsets[rows.size()] = size;
+        return adjacency;
     }
 
-    public Optional<Class<?>> findComponentByType(Class<?> type, Set<Class<?>> allComponents) {
-        return allComponents.stream()
-                .filter(type::isAssignableFrom)
-                .findFirst();
+    public int getEdgeCount() {
+        return edgeCount;
     }
 
-    public void printGraph() {
-        logger.info("Dependency Graph ({} vertices, {} edges):",
-                graph.vertexSet().size(), graph.edgeSet().size());
+    public int[] getDependents(int beanId) {
+        return dependentRows.get(beanId).clone();
+    }
 
-        for (Class<?> vertex : graph.vertexSet()) {
-            logger.info("  {}:", vertex.getSimpleName());
+    public int[] getDependencies(int beanId) {
+        return dependencyRows.get(beanId).clone();
+    }
 
-            Set<DefaultEdge> outgoing = graph.outgoingEdgesOf(vertex);
+    public Set<Class<?>> getCycles() {
+        Set<Class<?>> cycles = new LinkedHashSet<>();
+        for (DependencyCycle cycle : findCycles()) {
+            cycles.addAll(cycle.getComponents());
+        }
+        return cycles;
+    }
+
+    public List<DependencyCycle> findCycles() {
+        analyze();
+        if (!cyclic) {
+            return List.of();
+        }
+        if (cycles == null) {
+            cycles = List.copyOf(computeCycles());
+        }
+        return cycles;
+    }
+
+    private List<DependencyCycle> computeCycles() {
+        int vertexCount = beanClasses.size();
+        int[] index = new int[vertexCount];
+        int[] lowLink = new int[vertexCount];
+        boolean[] onStack = new boolean[vertexCount];
+        int[] stack = new int[vertexCount];
+        int[] callVertices = new int[vertexCount];
+        int[] callEdges = new int[vertexCount];
+        int[] component = new int[vertexCount];
+        Arrays.fill(index, -1);
+        Arrays.fill(component, -1);
+
+        List<DependencyCycle> result = new ArrayList<>();
+        int counter = 0;
+        int stackSize = 0;
+        int componentCount = 0;
+
+        for (int root = 0; root < vertexCount; root++) {
+            if (index[root] >= 0) {
+                continue;
+            }
+
+            int depth = 0;
+            index[root] = lowLink[root] = counter++;
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            callVertices[0] = root;
+            callEdges[0] = dependencyOffsets[root];
+
+            while (depth >= 0) {
+                int vertex = callVertices[depth];
+
+                if (callEdges[depth] < dependencyOffsets[vertex + 1]) {
+                    int next = dependencies[callEdges[depth]++];
+                    if (index[next] < 0) {
+                        index[next] = lowLink[next] = counter++;
+                        stack[stackSize++] = next;
+                        onStack[next] = true;
+                        depth++;
+                        callVertices[depth] = next;
+                        callEdges[depth] = dependencyOffsets[next];
+                    } else if (onStack[next]) {
+                        lowLink[vertex] = Math.min(lowLink[vertex], index[next]);
+                    }
+                    continue;
+                }
 
-            if (outgoing.isEmpty()) {
-                logger.info("    -> No dependencies");
-            } else {
-                for (DefaultEdge edge : outgoing) {
-                    Class<?> target = graph.getEdgeTarget(edge);
-                    logger.info("    -> {}", target.getSimpleName());
+                if (lowLink[vertex] == index[vertex]) {
+                    int start = stackSize;
+                    do {
+                        start--;
+                        onStack[stack[start]] = false;
+                        component[stack[start]] = componentCount;
+                    } while (stack[start] != vertex);
+
+                    int[] members = Arrays.copyOfRange(stack, start, stackSize);
+                    stackSize = start;
+                    if (members.length > 1 || dependsOn(vertex, vertex)) {
+                        result.add(createCycle(members, component, componentCount));
+                    }
+                    componentCount++;
                 }
+
+                depth--;
+                if (depth >= 0) {
+                    int parent = callVertices[depth];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[vertex]);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private boolean dependsOn(int dependent, int dependency) {
+        for (int i = dependencyOffsets[dependent]; i < dependencyOffsets[dependent + 1]; i++) {
+            if (dependencies[i] == dependency) {
+                return true;
             }
         }
+        return false;
     }
 
-    public SimpleDirectedGraph<Class<?>, DefaultEdge> getGraph() {
-        return graph;
+    private DependencyCycle createCycle(int[] members, int[] component, int componentId) {
+        Arrays.sort(members);
+        int start = members[0];
+
+        Map<Integer, Integer> previous = new HashMap<>();
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(start);
+        int last = -1;
+
+        while (!queue.isEmpty() && last < 0) {
+            int vertex = queue.poll();
+            for (int i = dependencyOffsets[vertex]; i < dependencyOffsets[vertex + 1]; i++) {
+                int next = dependencies[i];
+                if (next == start) {
+                    last = vertex;
+                    break;
+                }
+                if (component[next] == componentId && !previous.containsKey(next)) {
+                    previous.put(next, vertex);
+                    queue.add(next);
+                }
+            }
+        }
+
+        LinkedList<Integer> path = new LinkedList<>();
+        for (int vertex = last; vertex != start; vertex = previous.get(vertex)) {
+            path.addFirst(vertex);
+        }
+        path.addFirst(start);
+
+        List<DependencyEdge> edges = new ArrayList<>();
+        for (int i = 0; i < path.size(); i++) {
+            edges.add(createEdge(path.get(i), path.get((i + 1) % path.size())));
+        }
+
+        List<Class<?>> components = new ArrayList<>();
+        for (int member : members) {
+            components.add(beanClasses.get(member));
+        }
+
+        return new DependencyCycle(edges, components);
+    }
+
+    private DependencyEdge createEdge(int dependent, int dependency) {
+        Class<?> dependentClass = beanClasses.get(dependent);
+        InjectionPlan plan = plans.get(dependentClass);
+
+        if (plan != null) {
+            for (int i = 0; i < plan.getDependencyCount(); i++) {
+                if (plan.getDependencyId(i) == dependency) {
+                    return new DependencyEdge(dependentClass, beanClasses.get(dependency), plan.getExecutable(), i);
+                }
+            }
+        }
+
+        return new DependencyEdge(dependentClass, beanClasses.get(dependency), null, -1);
+    }
+
+    public List<Class<?>> getTopologicalOrder() {
+        int[] order = getTopologicalOrderIds();
+
+        List<Class<?>> result = new ArrayList<>(order.length);
+        for (int beanId : order) {
+            result.add(beanClasses.get(beanId));
+        }
+        return result;
+    }
+
+    public int[] getTopologicalOrderIds() {
+        if (hasCycles()) {
+            throw new IllegalStateException("Cannot get topological order: graph contains cycles");
+        }
+
+        return topologicalOrder.clone();
+    }
+
+    public boolean hasCycles() {
+        analyze();
+        return cyclic;
+    }
+
+    public Constructor<?> findConstructor(Constructor<?>[] constructors) {
+        return InjectionPlanner.findConstructor(constructors);
+    }
+
+    public Optional<Class<?>> findComponentByType(Class<?> type) {
+        return typeIndex.resolve(type);
+    }
+
+    public TypeIndex getTypeIndex() {
+        return typeIndex;
+    }
+
+    public InjectionPlanner getPlanner() {
+        return planner;
+    }
+
+    public StartupAnalysis analyzeStartup(Map<Class<?>, Duration> constructionTimes) {
+        int[] order = getTopologicalOrderIds();
+
+        int[][] beanDependencies = new int[beanClasses.size()][];
+        long[] costs = new long[beanClasses.size()];
+        for (int beanId = 0; beanId < beanClasses.size(); beanId++) {
+            beanDependencies[beanId] = getDependencies(beanId);
+            Duration constructionTime = beanClasses.get(beanId) != null
+                    ? constructionTimes.get(beanClasses.get(beanId)) : null;
+            costs[beanId] = constructionTime != null ? constructionTime.toNanos() : 0;
+        }
+
+        return new StartupAnalysis(Collections.unmodifiableList(new ArrayList<>(beanClasses)), Map.copyOf(beanIds),
+                beanDependencies, costs, order);
+    }
+
+    public void export(GraphExporter exporter, Path file) throws IOException {
+        exporter.export(this, file);
+    }
+
+    public void printGraph() {
+        StringWriter writer = new StringWriter();
+        try {
+            GraphExporter.TEXT.export(this, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        logger.info(writer.toString().stripTrailing());
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,10 @@
 package dev.hanginggoose.nestdi.framework.graph;
 
-import dev.hanginggoose.nestdi.framework.annotations.Configuration;
 import dev.hanginggoose.nestdi.framework.core.BeanInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -25,25 +25,31 @@ public class DependencyGraphBuilder {
             dependencyGraph.addComponent(beanInfo.getBeanClass());
         }
 
-        for (Class<?> component : components) {
-            if (!component.isAnnotationPresent(Configuration.class)) {
-                dependencyGraph.analyzeDependencies(component, components);
-            }
-        }
+        Set<Class<?>> beanClasses = new HashSet<>();
 
         for (BeanInfo beanInfo : beanInfos) {
-            dependencyGraph.analyzeBeanDependencies(beanInfo, components);
+            dependencyGraph.analyzeBeanDependencies(beanInfo);
+            beanClasses.add(beanInfo.getBeanClass());
+        }
+
+        for (Class<?> component : components) {
+            if (!beanClasses.contains(component)) {
+                dependencyGraph.analyzeDependencies(component);
+            }
         }
 
         if (dependencyGraph.hasCycles()) {
             logger.error("Cyclic dependencies detected in dependency graph: ");
-            dependencyGraph.getCycles().forEach(cycleVertex ->
-                    logger.error("  - {}", cycleVertex.getSimpleName()));
+            for (DependencyCycle cycle : dependencyGraph.findCycles()) {
+                logger.error("  - {}", cycle);
+                cycle.getEdges().forEach(edge -> logger.error("      {}", edge));
+            }
         } else {
             logger.debug("No cyclic dependencies detected");
         }
 
-        dependencyGraph.printGraph();
+        logger.debug("Built dependency graph with {} components and {} dependencies",
+                dependencyGraph.getBeanCount(), dependencyGraph.getEdgeCount());
 
         return dependencyGraph;
     }
@@ -0,0 +1,51 @@
+package dev.hanginggoose.nestdi.framework.graph;
+
+public class GraphChange {
+    private final int[] addedIds;
+    private final int[] removedIds;
+    private final int[] changedIds;
+    private final int[] affectedOrder;
+    private final Runnable undo;
+
+    GraphChange(int[] addedIds, int[] removedIds, int[] changedIds, int[] affectedOrder, Runnable undo) {
+        this.addedIds = addedIds;
+        this.removedIds = removedIds;
+        this.changedIds = changedIds;
+        this.affectedOrder = affectedOrder;
+        this.undo = undo;
+    }
+
+    public int[] getAddedIds() {
+        return addedIds.clone();
+    }
+
+    public int[] getRemovedIds() {
+        return removedIds.clone();
+    }
+
+    public int[] getChangedIds() {
+        return changedIds.clone();
+    }
+
+    public int[] getAffectedOrder() {
+        return affectedOrder.clone();
+    }
+
+    void undo() {
+        undo.run();
+    }
+
+    public boolean isEmpty() {
+        return addedIds.length == 0 && removedIds.length == 0 && affectedOrder.length == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "GraphChange{" +
+                "added=" + addedIds.length +
+                ", removed=" + removedIds.length +
+                ", changed=" + changedIds.length +
+                ", affected=" + affectedOrder.length +
+                '}';
+    }
+}
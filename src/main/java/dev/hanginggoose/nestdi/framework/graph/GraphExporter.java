@@ -0,0 +1,90 @@
+package dev.hanginggoose.nestdi.framework.graph;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public enum GraphExporter {
+    DOT {
+        @Override
+        public void export(DependencyGraph graph, Writer writer) throws IOException {
+            writer.write("digraph dependencies {\n");
+            writer.write("  rankdir=LR;\n");
+            for (int beanId = 0; beanId < graph.getIdCapacity(); beanId++) {
+                if (graph.getBeanClass(beanId) == null) {
+                    continue;
+                }
+                writer.write("  n" + beanId + " [label=\"" + escape(graph.getBeanClass(beanId).getSimpleName()) + "\"];\n");
+            }
+            for (int beanId = 0; beanId < graph.getIdCapacity(); beanId++) {
+                for (int dependent : graph.getDependents(beanId)) {
+                    writer.write("  n" + beanId + " -> n" + dependent + ";\n");
+                }
+            }
+            writer.write("}\n");
+        }
+    },
+    JSON {
+        @Override
+        public void export(DependencyGraph graph, Writer writer) throws IOException {
+            writer.write("{\"components\":[");
+            boolean firstComponent = true;
+            for (int beanId = 0; beanId < graph.getIdCapacity(); beanId++) {
+                if (graph.getBeanClass(beanId) == null) {
+                    continue;
+                }
+                if (!firstComponent) {
+                    writer.write(',');
+                }
+                firstComponent = false;
+                writer.write("{\"id\":" + beanId + ",\"class\":\"" + escape(graph.getBeanClass(beanId).getName()) + "\"}");
+            }
+            writer.write("],\"dependencies\":[");
+            boolean first = true;
+            for (int beanId = 0; beanId < graph.getIdCapacity(); beanId++) {
+                for (int dependent : graph.getDependents(beanId)) {
+                    if (!first) {
+                        writer.write(',');
+                    }
+                    first = false;
+                    writer.write("{\"dependent\":" + dependent + ",\"dependency\":" + beanId + "}");
+                }
+            }
+            writer.write("]}\n");
+        }
+    },
+    TEXT {
+        @Override
+        public void export(DependencyGraph graph, Writer writer) throws IOException {
+            writer.write("Dependency Graph (" + graph.getBeanCount() + " vertices, " + graph.getEdgeCount() + " edges):\n");
+            for (int beanId = 0; beanId < graph.getIdCapacity(); beanId++) {
+                if (graph.getBeanClass(beanId) == null) {
+                    continue;
+                }
+                writer.write("  " + graph.getBeanClass(beanId).getSimpleName() + ":\n");
+
+                int[] dependents = graph.getDependents(beanId);
+                if (dependents.length == 0) {
+                    writer.write("    -> No dependencies\n");
+                }
+                for (int dependent : dependents) {
+                    writer.write("    -> " + graph.getBeanClass(dependent).getSimpleName() + "\n");
+                }
+            }
+        }
+    };
+
+    public abstract void export(DependencyGraph graph, Writer writer) throws IOException;
+
+    public void export(DependencyGraph graph, Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            export(graph, writer);
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,115 @@
+package dev.hanginggoose.nestdi.framework.graph;
+
+import dev.hanginggoose.nestdi.framework.annotations.Autowired;
+import dev.hanginggoose.nestdi.framework.core.BeanInfo;
+import dev.hanginggoose.nestdi.framework.core.InjectionPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+
+public class InjectionPlanner {
+    private static final Logger logger = LoggerFactory.getLogger(InjectionPlanner.class);
+
+    private final TypeIndex typeIndex;
+    private final Map<Class<?>, Integer> beanIds;
+
+    public InjectionPlanner(TypeIndex typeIndex, Map<Class<?>, Integer> beanIds) {
+        this.typeIndex = typeIndex;
+        this.beanIds = beanIds;
+    }
+
+    public InjectionPlan planConstructor(Class<?> componentClass) {
+        Constructor<?>[] constructors = componentClass.getDeclaredConstructors();
+        Constructor<?> chosenConstructor = findConstructor(constructors);
+
+        if (chosenConstructor == null) {
+            return null;
+        }
+
+        Parameter[] parameters = chosenConstructor.getParameters();
+        Class<?>[] dependencies = analyzeParameters(componentClass.getSimpleName(), parameters);
+        return InjectionPlan.forConstructor(componentClass, getBeanId(componentClass), chosenConstructor,
+                dependencies, toBeanIds(dependencies), isAutowiredRequired(chosenConstructor));
+    }
+
+    public InjectionPlan planFactoryMethod(BeanInfo beanInfo) {
+        Method beanMethod = beanInfo.getFactoryMethod();
+        if (beanMethod == null) {
+            return null;
+        }
+
+        Parameter[] parameters = beanMethod.getParameters();
+        Class<?>[] dependencies = analyzeParameters(beanMethod.getName(), parameters);
+        return InjectionPlan.forFactoryMethod(beanInfo, getBeanId(beanInfo.getBeanClass()),
+                dependencies, toBeanIds(dependencies));
+    }
+
+    public Optional<Class<?>> findComponentByType(Class<?> type) {
+        return typeIndex.resolve(type);
+    }
+
+    public int getBeanId(Class<?> beanClass) {
+        Integer id = beanIds.get(beanClass);
+        return id != null ? id : -1;
+    }
+
+    public TypeIndex getTypeIndex() {
+        return typeIndex;
+    }
+
+    private Class<?>[] analyzeParameters(String source, Parameter[] parameters) {
+        Class<?>[] dependencies = new Class<?>[parameters.length];
+
+        for (int i = 0; i < parameters.length; i++) {
+            Class<?> parameterType = parameters[i].getType();
+
+            Optional<Class<?>> dependency = findComponentByType(parameterType);
+
+            if (dependency.isPresent()) {
+                dependencies[i] = dependency.get();
+            } else {
+                logger.warn("No component found for dependency type: {} in bean method {}",
+                        parameterType.getSimpleName(),
+                        source);
+            }
+        }
+
+        return dependencies;
+    }
+
+    private int[] toBeanIds(Class<?>[] dependencies) {
+        int[] ids = new int[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            ids[i] = dependencies[i] != null ? getBeanId(dependencies[i]) : -1;
+        }
+        return ids;
+    }
+
+    private static boolean isAutowiredRequired(Constructor<?> constructor) {
+        Autowired autowired = constructor.getAnnotation(Autowired.class);
+        return autowired == null || autowired.required();
+    }
+
+    public static Constructor<?> findConstructor(Constructor<?>[] constructors) {
+        if (constructors.length == 1) {
+            return constructors[0];
+        }
+
+        for (Constructor<?> constructor : constructors) {
+            if (constructor.isAnnotationPresent(Autowired.class)) {
+                return constructor;
+            }
+        }
+
+        return Arrays.stream(constructors)
+                .max(Comparator.comparingInt(Constructor::getParameterCount))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,23 @@
+package dev.hanginggoose.nestdi.framework.graph;
+
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DirectedPseudograph;
+
+public class JGraphTAdapter {
+
+    public static DirectedPseudograph<Class<?>, DefaultEdge> toJGraphT(DependencyGraph dependencyGraph) {
+        DirectedPseudograph<Class<?>, DefaultEdge> graph = new DirectedPseudograph<>(DefaultEdge.class);
+
+        for (Class<?> beanClass : dependencyGraph.getBeanClasses()) {
+            graph.addVertex(beanClass);
+        }
+
+        for (int beanId = 0; beanId < dependencyGraph.getIdCapacity(); beanId++) {
+            for (int dependent : dependencyGraph.getDependents(beanId)) {
+                graph.addEdge(dependencyGraph.getBeanClass(beanId), dependencyGraph.getBeanClass(dependent));
+            }
+        }
+
+        return graph;
+    }
+}
@@ -0,0 +1,179 @@
+package dev.hanginggoose.nestdi.framework.graph;
+
+import java.time.Duration;
+import java.util.*;
+
+public class StartupAnalysis {
+    private final List<Class<?>> beanClasses;
+    private final Map<Class<?>, Integer> beanIds;
+    private final int[][] dependencies;
+    private final long[] costs;
+    private final int[] order;
+    private final int[] layers;
+    private final long[] finishTimes;
+    private final int[] criticalPredecessors;
+    private final int layerCount;
+
+    StartupAnalysis(List<Class<?>> beanClasses, Map<Class<?>, Integer> beanIds, int[][] dependencies, long[] costs,
+                    int[] order) {
+        this.beanClasses = beanClasses;
+        this.beanIds = beanIds;
+        this.dependencies = dependencies;
+        this.costs = costs;
+        this.order = order;
+        this.layers = new int[dependencies.length];
+        this.finishTimes = new long[dependencies.length];
+        this.criticalPredecessors = new int[dependencies.length];
+
+        int maxLayer = -1;
+        for (int beanId : order) {
+            int layer = 0;
+            long start = 0;
+            criticalPredecessors[beanId] = -1;
+            for (int dependency : dependencies[beanId]) {
+                layer = Math.max(layer, layers[dependency] + 1);
+                if (finishTimes[dependency] > start) {
+                    start = finishTimes[dependency];
+                    criticalPredecessors[beanId] = dependency;
+                }
+            }
+            layers[beanId] = layer;
+            finishTimes[beanId] = start + costs[beanId];
+            maxLayer = Math.max(maxLayer, layer);
+        }
+        this.layerCount = maxLayer + 1;
+    }
+
+    public int getDepth() {
+        return layerCount;
+    }
+
+    public List<List<Class<?>>> getLayers() {
+        List<List<Class<?>>> result = new ArrayList<>();
+        for (int i = 0; i < layerCount; i++) {
+            result.add(new ArrayList<>());
+        }
+        for (int beanId : order) {
+            result.get(layers[beanId]).add(beanClasses.get(beanId));
+        }
+        return result.stream().map(Collections::unmodifiableList).toList();
+    }
+
+    public int[] getLayerWidths() {
+        int[] widths = new int[layerCount];
+        for (int beanId : order) {
+            widths[layers[beanId]]++;
+        }
+        return widths;
+    }
+
+    public int getLayer(Class<?> beanClass) {
+        Integer beanId = beanIds.get(beanClass);
+        if (beanId == null) {
+            throw new IllegalArgumentException("Unknown component: " + beanClass.getName());
+        }
+        return layers[beanId];
+    }
+
+    public List<Class<?>> getCriticalPath() {
+        int last = -1;
+        for (int beanId : order) {
+            if (last < 0 || finishTimes[beanId] > finishTimes[last]) {
+                last = beanId;
+            }
+        }
+
+        LinkedList<Class<?>> path = new LinkedList<>();
+        for (int beanId = last; beanId >= 0; beanId = criticalPredecessors[beanId]) {
+            path.addFirst(beanClasses.get(beanId));
+        }
+        return Collections.unmodifiableList(path);
+    }
+
+    public Duration getCriticalPathTime() {
+        long longest = 0;
+        for (long finishTime : finishTimes) {
+            longest = Math.max(longest, finishTime);
+        }
+        return Duration.ofNanos(longest);
+    }
+
+    public Duration getTotalTime() {
+        long total = 0;
+        for (long cost : costs) {
+            total += cost;
+        }
+        return Duration.ofNanos(total);
+    }
+
+    public Duration estimateStartupTime(int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("At least one worker is required, got " + workers);
+        }
+
+        int beanCount = dependencies.length;
+        long[] remainingPath = new long[beanCount];
+        int[] pendingDependencies = new int[beanCount];
+        List<List<Integer>> dependents = new ArrayList<>(beanCount);
+        for (int beanId = 0; beanId < beanCount; beanId++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int beanId : order) {
+            pendingDependencies[beanId] = dependencies[beanId].length;
+            for (int dependency : dependencies[beanId]) {
+                dependents.get(dependency).add(beanId);
+            }
+        }
+        for (int i = order.length - 1; i >= 0; i--) {
+            int beanId = order[i];
+            long longest = 0;
+            for (int dependent : dependents.get(beanId)) {
+                longest = Math.max(longest, remainingPath[dependent]);
+            }
+            remainingPath[beanId] = costs[beanId] + longest;
+        }
+
+        PriorityQueue<Integer> ready = new PriorityQueue<>(
+                Comparator.comparingLong((Integer beanId) -> remainingPath[beanId]).reversed());
+        PriorityQueue<long[]> running = new PriorityQueue<>(Comparator.comparingLong(task -> task[0]));
+        for (int beanId : order) {
+            if (pendingDependencies[beanId] == 0) {
+                ready.add(beanId);
+            }
+        }
+
+        long now = 0;
+        while (!ready.isEmpty() || !running.isEmpty()) {
+            while (!ready.isEmpty() && running.size() < workers) {
+                int beanId = ready.poll();
+                running.add(new long[]{now + costs[beanId], beanId});
+            }
+
+            long[] finished = running.poll();
+            now = finished[0];
+            for (int dependent : dependents.get((int) finished[1])) {
+                if (--pendingDependencies[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        return Duration.ofNanos(now);
+    }
+
+    public double estimateSpeedup(int workers) {
+        long parallel = estimateStartupTime(workers).toNanos();
+        return parallel == 0 ? 1.0 : (double) getTotalTime().toNanos() / parallel;
+    }
+
+    @Override
+    public String toString() {
+        return "StartupAnalysis{" +
+                "beans=" + order.length +
+                ", depth=" + layerCount +
+                ", maxWidth=" + Arrays.stream(getLayerWidths()).max().orElse(0) +
+                ", totalTime=" + getTotalTime().toMillis() + "ms" +
+                ", criticalPathTime=" + getCriticalPathTime().toMillis() + "ms" +
+                '}';
+    }
+}
@@ -0,0 +1,83 @@
+package dev.hanginggoose.nestdi.framework.graph;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class TypeIndex {
+    private final Map<Class<?>, List<Class<?>>> implementations = new HashMap<>();
+    private final Set<Class<?>> components = new HashSet<>();
+
+    public TypeIndex() {
+    }
+
+    public TypeIndex(Collection<Class<?>> components) {
+        components.forEach(this::add);
+    }
+
+    public void add(Class<?> component) {
+        if (!components.add(component)) {
+            return;
+        }
+
+        for (Class<?> type : typesOf(component)) {
+            implementations.computeIfAbsent(type, key -> new ArrayList<>()).add(component);
+        }
+    }
+
+    public void remove(Class<?> component) {
+        if (!components.remove(component)) {
+            return;
+        }
+
+        for (Class<?> type : typesOf(component)) {
+            List<Class<?>> candidates = implementations.get(type);
+            if (candidates != null) {
+                candidates.remove(component);
+                if (candidates.isEmpty()) {
+                    implementations.remove(type);
+                }
+            }
+        }
+    }
+
+    static Set<Class<?>> typesOf(Class<?> component) {
+        Set<Class<?>> visited = new LinkedHashSet<>();
+        Deque<Class<?>> types = new ArrayDeque<>();
+        types.push(component);
+
+        while (!types.isEmpty()) {
+            Class<?> type = types.pop();
+            if (!visited.add(type)) {
+                continue;
+            }
+
+            if (type.getSuperclass() != null) {
+                types.push(type.getSuperclass());
+            }
+            for (Class<?> anInterface : type.getInterfaces()) {
+                types.push(anInterface);
+            }
+        }
+
+        return visited;
+    }
+
+    public Optional<Class<?>> resolve(Class<?> type) {
+        if (components.contains(type)) {
+            return Optional.of(type);
+        }
+
+        List<Class<?>> candidates = implementations.getOrDefault(type, List.of());
+        if (candidates.size() > 1) {
+            throw new IllegalStateException(String.format("Ambiguous dependency: %d beans of type %s found: %s",
+                    candidates.size(), type.getName(),
+                    candidates.stream().map(Class::getName).collect(Collectors.joining(", "))));
+        }
+
+        return candidates.isEmpty() ? Optional.empty() : Optional.of(candidates.get(0));
+    }
+
+    public List<Class<?>> getImplementations(Class<?> type) {
+        return Collections.unmodifiableList(implementations.getOrDefault(type, List.of()));
+    }
+}
@@ -0,0 +1,60 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class AsyncExecutor {
+    private final String name;
+    private final Executor delegate;
+    private final boolean owned;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    AsyncExecutor(String name, Executor delegate, boolean owned) {
+        this.name = name;
+        this.delegate = delegate;
+        this.owned = owned;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    void execute(Runnable task) {
+        queued.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                queued.decrementAndGet();
+                active.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    void recordFailure() {
+        failed.increment();
+    }
+
+    void shutdown() {
+        if (owned && delegate instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    public AsyncStatistics getStatistics() {
+        return new AsyncStatistics(queued.get(), active.get(), completed.sum(), failed.sum());
+    }
+}
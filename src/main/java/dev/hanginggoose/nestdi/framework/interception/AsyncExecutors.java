@@ -0,0 +1,60 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+public class AsyncExecutors {
+    public static final String DEFAULT_EXECUTOR = "default";
+
+    private final Map<String, AsyncExecutor> executors = new ConcurrentHashMap<>();
+    private volatile boolean shutdown;
+
+    public void register(String name, Executor executor) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Executor name must not be blank");
+        }
+        if (shutdown) {
+            throw new IllegalStateException("Cannot register executor " + name + " after shutdown");
+        }
+
+        AsyncExecutor previous = executors.put(name, new AsyncExecutor(name, executor, false));
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    public AsyncExecutor get(String name) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Async executors have been shut down");
+        }
+        if (name.isEmpty() || name.equals(DEFAULT_EXECUTOR)) {
+            return executors.computeIfAbsent(DEFAULT_EXECUTOR,
+                    key -> new AsyncExecutor(key, Executors.newVirtualThreadPerTaskExecutor(), true));
+        }
+
+        AsyncExecutor executor = executors.get(name);
+        if (executor == null) {
+            throw new IllegalStateException("No executor registered with name: " + name);
+        }
+        return executor;
+    }
+
+    public Map<String, AsyncStatistics> getStatistics() {
+        Map<String, AsyncStatistics> statistics = new LinkedHashMap<>();
+        executors.forEach((name, executor) -> statistics.put(name, executor.getStatistics()));
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    public void shutdown() {
+        shutdown = true;
+        executors.values().removeIf(executor -> {
+            executor.shutdown();
+            return true;
+        });
+    }
+}
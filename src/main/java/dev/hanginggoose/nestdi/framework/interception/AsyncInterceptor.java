@@ -0,0 +1,85 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+public class AsyncInterceptor implements MethodInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncInterceptor.class);
+
+    private final AsyncExecutors executors;
+    private final String executorName;
+    private final boolean returnsFuture;
+
+    public AsyncInterceptor(Method method, String executorName, AsyncExecutors executors) {
+        Class<?> returnType = method.getReturnType();
+        boolean futureType = Future.class.isAssignableFrom(returnType) ||
+                CompletionStage.class.isAssignableFrom(returnType);
+        if (returnType != void.class && !(futureType && returnType.isAssignableFrom(CompletableFuture.class))) {
+            throw new IllegalStateException("@Async method " + method.getName() +
+                    " must return void, Future, CompletionStage or CompletableFuture, but returns " +
+                    returnType.getSimpleName());
+        }
+
+        this.executors = executors;
+        this.executorName = executorName;
+        this.returnsFuture = returnType != void.class;
+    }
+
+    @Override
+    public Object intercept(MethodInvocation invocation) throws Throwable {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+
+        try {
+            AsyncExecutor executor = executors.get(executorName);
+            executor.execute(() -> run(invocation, executor, result));
+        } catch (RejectedExecutionException e) {
+            if (!returnsFuture) {
+                throw e;
+            }
+            result.completeExceptionally(e);
+        }
+
+        return returnsFuture ? result : null;
+    }
+
+    private void run(MethodInvocation invocation, AsyncExecutor executor, CompletableFuture<Object> result) {
+        try {
+            Object value = invocation.proceed();
+            if (value instanceof CompletionStage<?> stage) {
+                stage.whenComplete((completed, exception) -> finish(invocation, executor, result, completed,
+                        exception instanceof CompletionException && exception.getCause() != null ?
+                                exception.getCause() : exception));
+            } else if (value instanceof Future<?> future) {
+                finish(invocation, executor, result, future.get(), null);
+            } else {
+                finish(invocation, executor, result, value, null);
+            }
+        } catch (ExecutionException exception) {
+            finish(invocation, executor, result, null, exception.getCause());
+        } catch (Throwable exception) {
+            finish(invocation, executor, result, null, exception);
+        }
+    }
+
+    private void finish(MethodInvocation invocation, AsyncExecutor executor, CompletableFuture<Object> result,
+                        Object value, Throwable exception) {
+        if (exception == null) {
+            result.complete(value);
+            return;
+        }
+
+        executor.recordFailure();
+        if (!returnsFuture) {
+            logger.error("Async method {} failed", invocation.getMethod().getName(), exception);
+        }
+        result.completeExceptionally(exception);
+    }
+}
@@ -0,0 +1,37 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+public class AsyncStatistics {
+    private final int queueDepth;
+    private final int activeCount;
+    private final long completedCount;
+    private final long failedCount;
+
+    AsyncStatistics(int queueDepth, int activeCount, long completedCount, long failedCount) {
+        this.queueDepth = queueDepth;
+        this.activeCount = activeCount;
+        this.completedCount = completedCount;
+        this.failedCount = failedCount;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "queued=" + queueDepth + ", active=" + activeCount + ", completed=" + completedCount +
+                ", failed=" + failedCount;
+    }
+}
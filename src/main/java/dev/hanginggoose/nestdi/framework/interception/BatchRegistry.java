@@ -0,0 +1,99 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import dev.hanginggoose.nestdi.framework.annotations.Batched;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class BatchRegistry {
+    private final Map<Method, RequestBatcher> batchers = new ConcurrentHashMap<>();
+    private final AsyncExecutors executors;
+    private ScheduledExecutorService scheduler;
+    private boolean shutdown;
+
+    BatchRegistry(AsyncExecutors executors) {
+        this.executors = executors;
+    }
+
+    public RequestBatcher register(Method method, Batched batched) {
+        return batchers.computeIfAbsent(method, key -> createBatcher(method, batched));
+    }
+
+    private RequestBatcher createBatcher(Method method, Batched batched) {
+        if (method.getParameterCount() != 1) {
+            throw new IllegalStateException("@Batched method " + method.getName() + " must take exactly one key");
+        }
+        if (method.getReturnType().isPrimitive()) {
+            throw new IllegalStateException("@Batched method " + method.getName() + " must not return a primitive");
+        }
+        if (batched.maxSize() <= 0 || batched.windowMillis() < 0) {
+            throw new IllegalStateException("@Batched method " + method.getName() +
+                    " needs a positive maxSize and a non-negative windowMillis");
+        }
+
+        return new RequestBatcher(findBulkMethod(method, batched.value()), batched.maxSize(), batched.windowMillis(),
+                this::scheduler, executors);
+    }
+
+    public Map<Method, BatchStatistics> getStatistics() {
+        Map<Method, BatchStatistics> statistics = new LinkedHashMap<>();
+        batchers.forEach((method, batcher) -> statistics.put(method, batcher.getStatistics()));
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    public void shutdown() {
+        synchronized (this) {
+            shutdown = true;
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+            }
+        }
+
+        RejectedExecutionException exception = new RejectedExecutionException("Request batching has been shut down");
+        batchers.values().forEach(batcher -> batcher.rejectPending(exception));
+    }
+
+    private synchronized ScheduledExecutorService scheduler() {
+        if (shutdown) {
+            throw new RejectedExecutionException("Request batching has been shut down");
+        }
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "nest-di-batcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return scheduler;
+    }
+
+    private static Method findBulkMethod(Method method, String bulkName) {
+        for (Class<?> type = method.getDeclaringClass(); type != null; type = type.getSuperclass()) {
+            for (Method candidate : type.getDeclaredMethods()) {
+                if (candidate.getName().equals(bulkName) && candidate.getParameterCount() == 1 &&
+                        acceptsKeys(candidate.getParameterTypes()[0])) {
+                    if (!Map.class.isAssignableFrom(candidate.getReturnType()) &&
+                            !List.class.isAssignableFrom(candidate.getReturnType())) {
+                        throw new IllegalStateException("Bulk method " + bulkName + " must return a Map or a List");
+                    }
+                    return candidate;
+                }
+            }
+        }
+        throw new IllegalStateException("No bulk method " + bulkName + "(Collection) found for @Batched method " +
+                method.getName());
+    }
+
+    private static boolean acceptsKeys(Class<?> parameterType) {
+        return parameterType.isAssignableFrom(ArrayList.class) || parameterType.isAssignableFrom(LinkedHashSet.class);
+    }
+}
@@ -0,0 +1,41 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+public class BatchStatistics {
+    private final long batchCount;
+    private final long requestCount;
+    private final long maxBatchSize;
+    private final TimingStatistics waitTimes;
+
+    BatchStatistics(long batchCount, long requestCount, long maxBatchSize, TimingStatistics waitTimes) {
+        this.batchCount = batchCount;
+        this.requestCount = requestCount;
+        this.maxBatchSize = maxBatchSize;
+        this.waitTimes = waitTimes;
+    }
+
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public double getMeanBatchSize() {
+        return batchCount == 0 ? 0 : (double) requestCount / batchCount;
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public TimingStatistics getWaitTimes() {
+        return waitTimes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("batches=%d, requests=%d, meanSize=%.1f, maxSize=%d, wait: %s",
+                batchCount, requestCount, getMeanBatchSize(), maxBatchSize, waitTimes);
+    }
+}
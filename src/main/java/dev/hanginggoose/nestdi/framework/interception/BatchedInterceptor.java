@@ -0,0 +1,37 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+public class BatchedInterceptor implements MethodInterceptor {
+    private final RequestBatcher batcher;
+    private final boolean returnsFuture;
+
+    public BatchedInterceptor(Method method, RequestBatcher batcher) {
+        Class<?> returnType = method.getReturnType();
+        this.batcher = batcher;
+        this.returnsFuture = Future.class.isAssignableFrom(returnType) ||
+                CompletionStage.class.isAssignableFrom(returnType);
+        if (returnsFuture && !returnType.isAssignableFrom(CompletableFuture.class)) {
+            throw new IllegalStateException("@Batched method " + method.getName() + " cannot return " +
+                    returnType.getSimpleName() + ", use Future, CompletionStage or CompletableFuture");
+        }
+    }
+
+    @Override
+    public Object intercept(MethodInvocation invocation) throws Throwable {
+        CompletableFuture<Object> result = batcher.submit(invocation.getTarget(), invocation.getArguments()[0]);
+        if (returnsFuture) {
+            return result;
+        }
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+}
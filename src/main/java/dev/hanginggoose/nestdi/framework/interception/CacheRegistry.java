@@ -0,0 +1,55 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import dev.hanginggoose.nestdi.framework.annotations.Cached;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CacheRegistry {
+    private final Map<Class<?>, Map<Method, MethodCache>> caches = new ConcurrentHashMap<>();
+
+    public MethodCache register(Class<?> beanClass, Method method, Cached cached) {
+        return caches.computeIfAbsent(beanClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> new MethodCache(cached.maxSize(), cached.expireAfterWriteMillis()));
+    }
+
+    public MethodCache getCache(Class<?> beanClass, Method method) {
+        Map<Method, MethodCache> beanCaches = caches.get(beanClass);
+        return beanCaches != null ? beanCaches.get(method) : null;
+    }
+
+    public Map<Method, CacheStatistics> getStatistics() {
+        Map<Method, CacheStatistics> statistics = new LinkedHashMap<>();
+        caches.values().forEach(beanCaches -> beanCaches.forEach((method, cache) ->
+                statistics.merge(method, cache.getStatistics(), CacheRegistry::combine)));
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    public Map<Method, CacheStatistics> getStatistics(Class<?> beanClass) {
+        Map<Method, CacheStatistics> statistics = new LinkedHashMap<>();
+        caches.getOrDefault(beanClass, Map.of())
+                .forEach((method, cache) -> statistics.put(method, cache.getStatistics()));
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    public void drop(Class<?> beanClass) {
+        Map<Method, MethodCache> removed = caches.remove(beanClass);
+        if (removed != null) {
+            removed.values().forEach(MethodCache::invalidateAll);
+        }
+    }
+
+    public void invalidateAll() {
+        caches.values().forEach(beanCaches -> beanCaches.values().forEach(MethodCache::invalidateAll));
+    }
+
+    private static CacheStatistics combine(CacheStatistics first, CacheStatistics second) {
+        return new CacheStatistics(first.getHitCount() + second.getHitCount(),
+                first.getMissCount() + second.getMissCount(),
+                first.getEvictionCount() + second.getEvictionCount(),
+                first.getSize() + second.getSize());
+    }
+}
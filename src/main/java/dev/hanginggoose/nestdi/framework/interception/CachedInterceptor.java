@@ -0,0 +1,68 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+public class CachedInterceptor implements MethodInterceptor {
+    private static final Object NO_ARGUMENTS = new Object();
+    private static final Object NULL_ARGUMENT = new Object();
+
+    private final MethodCache cache;
+
+    public CachedInterceptor(MethodCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Object intercept(MethodInvocation invocation) throws Throwable {
+        return cache.get(keyOf(invocation.getArguments()), invocation);
+    }
+
+    private static Object keyOf(Object[] arguments) {
+        if (arguments == null || arguments.length == 0) {
+            return NO_ARGUMENTS;
+        }
+        if (arguments.length == 1 && (arguments[0] == null || !arguments[0].getClass().isArray())) {
+            return arguments[0] != null ? arguments[0] : NULL_ARGUMENT;
+        }
+        return new ArgumentsKey((Object[]) copy(arguments));
+    }
+
+    private static Object copy(Object value) {
+        if (value == null || !value.getClass().isArray()) {
+            return value;
+        }
+        if (value instanceof Object[] array) {
+            Object[] copy = array.clone();
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = copy(copy[i]);
+            }
+            return copy;
+        }
+
+        int length = Array.getLength(value);
+        Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+        System.arraycopy(value, 0, copy, 0, length);
+        return copy;
+    }
+
+    private static final class ArgumentsKey {
+        private final Object[] arguments;
+        private final int hash;
+
+        private ArgumentsKey(Object[] arguments) {
+            this.arguments = arguments;
+            this.hash = Arrays.deepHashCode(arguments);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ArgumentsKey key && hash == key.hash && Arrays.deepEquals(arguments, key.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
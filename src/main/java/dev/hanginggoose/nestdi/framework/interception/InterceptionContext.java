@@ -0,0 +1,43 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+public class InterceptionContext {
+    private static final InterceptionContext DEFAULT = new InterceptionContext();
+
+    private final TimingRegistry timings = new TimingRegistry();
+    private final LogWriter logWriter = new LogWriter();
+    private final CacheRegistry caches = new CacheRegistry();
+    private final AsyncExecutors executors = new AsyncExecutors();
+    private final BatchRegistry batches = new BatchRegistry(executors);
+
+    public static InterceptionContext getDefault() {
+        return DEFAULT;
+    }
+
+    public TimingRegistry getTimings() {
+        return timings;
+    }
+
+    public LogWriter getLogWriter() {
+        return logWriter;
+    }
+
+    public CacheRegistry getCaches() {
+        return caches;
+    }
+
+    public AsyncExecutors getExecutors() {
+        return executors;
+    }
+
+    public BatchRegistry getBatches() {
+        return batches;
+    }
+
+    public void close() {
+        timings.stopReporting();
+        logWriter.close();
+        caches.invalidateAll();
+        batches.shutdown();
+        executors.shutdown();
+    }
+}
@@ -1,38 +1,55 @@
 package dev.hanginggoose.nestdi.framework.interception;
 
-import dev.hanginggoose.nestdi.framework.annotations.Logged;
-import dev.hanginggoose.nestdi.framework.annotations.Timed;
 import javassist.util.proxy.MethodHandler;
 import javassist.util.proxy.ProxyFactory;
+import javassist.util.proxy.ProxyObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
-import java.util.Arrays;
+import java.util.*;
 
 public class InterceptionProxyFactory {
     private static final Logger logger = LoggerFactory.getLogger(InterceptionProxyFactory.class);
+    private static final List<Method> OBJECT_METHODS = objectMethods();
 
     public static <T> T createProxy(T target) {
+        return createProxy(target, InterceptionContext.getDefault());
+    }
+
+    public static <T> T createProxy(T target, InterceptionContext context) {
         if (!requiresInterception(target.getClass())) {
             return target;
         }
 
+        Class<?> targetClass = target.getClass();
+        if (SubclassProxyGenerator.canProxy(targetClass) && !SubclassProxyGenerator.hasFinalMethods(targetClass)) {
+            try {
+                return SubclassProxyGenerator.createProxy(target, context);
+            } catch (Exception | LinkageError e) {
+                logger.warn("Cannot generate proxy for {}, falling back to reflective proxy: {}",
+                        targetClass.getSimpleName(), e.toString());
+            }
+        }
+
         if (hasInterface(target.getClass())) {
             logger.debug("Creating Java Proxy for {}",
                     target.getClass().getSimpleName());
-            return createJavaProxy(target);
+            return createJavaProxy(target, context);
         } else {
             logger.debug("Creating Javassist Proxy for {}",
                     target.getClass().getSimpleName());
-            return createJavassistProxy(target);
+            return createJavassistProxy(target, context);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private static <T> T createJavaProxy(T target) {
+    private static <T> T createJavaProxy(T target, InterceptionContext context) {
         Class<?> targetClass = target.getClass();
         Class<?>[] interfaces = targetClass.getInterfaces();
 
@@ -41,18 +58,52 @@ public class InterceptionProxyFactory {
                     + targetClass.getName());
         }
 
-        return (T) Proxy.newProxyInstance(
-                targetClass.getClassLoader(),
-                interfaces,
-                (proxy, method, arguments) -> {
-                    Method targetMethod = findTargetMethod(targetClass, method);
-                    if (targetMethod == null) {
-                        return method.invoke(target, arguments);
-                    }
+        Map<Method, InterceptorChain> chains = resolveInterfaceChains(targetClass, interfaces, context);
+        InvocationHandler handler = (proxy, method, arguments) -> {
+            InterceptorChain chain = chains.get(method);
+            if (chain == null) {
+                return invokeDirectly(target, method, arguments);
+            }
+
+            return chain.invoke(target, arguments);
+        };
 
-                    return invokeMethod(target, method, arguments, targetMethod);
+        try {
+            Constructor<?> constructor = ProxyClassCache.get(targetClass, "jdk", List.of(interfaces),
+                    () -> javaProxyConstructor(targetClass.getClassLoader(), interfaces));
+            return (T) constructor.newInstance(handler);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create proxy for " + targetClass, e);
+        }
+    }
+
+    private static Constructor<?> javaProxyConstructor(ClassLoader classLoader, Class<?>[] interfaces)
+            throws NoSuchMethodException {
+        Class<?> proxyClass = Proxy.newProxyInstance(classLoader, interfaces, (proxy, method, arguments) -> null)
+                .getClass();
+        Constructor<?> constructor = proxyClass.getConstructor(InvocationHandler.class);
+        constructor.trySetAccessible();
+        return constructor;
+    }
+
+    private static Map<Method, InterceptorChain> resolveInterfaceChains(Class<?> targetClass, Class<?>[] interfaces,
+                                                                    InterceptionContext context) {
+        Map<Method, InterceptorChain> chains = new HashMap<>();
+
+        for (Class<?> anInterface : interfaces) {
+            for (Method method : anInterface.getMethods()) {
+                if (!Modifier.isStatic(method.getModifiers())) {
+                    Method targetMethod = findTargetMethod(targetClass, method);
+                    chains.put(method, InterceptorChain.resolve(targetClass, targetMethod != null ? targetMethod : method,
+                            context));
                 }
-        );
+            }
+        }
+        for (Method method : OBJECT_METHODS) {
+            chains.put(method, InterceptorChain.resolve(targetClass, findTargetMethod(targetClass, method), context));
+        }
+
+        return chains;
     }
 
     private static Method findTargetMethod(Class<?> targetClass, Method interfaceMethod) {
@@ -64,50 +115,63 @@ public class InterceptionProxyFactory {
     }
 
     @SuppressWarnings("unchecked")
-    private static <T> T createJavassistProxy(T target) {
+    private static <T> T createJavassistProxy(T target, InterceptionContext context) {
         Class<?> targetClass = target.getClass();
-
-        ProxyFactory factory = new ProxyFactory();
-        factory.setSuperclass(targetClass);
-        factory.setFilter(
-                method ->
-                        Arrays.stream(method.getDeclaredAnnotations()).anyMatch(
-                                annotation -> annotation.annotationType().equals(Logged.class) ||
-                                        annotation.annotationType().equals(Timed.class))
-        );
+        Map<Method, InterceptorChain> chains = resolveClassChains(targetClass, context);
 
         MethodHandler handler = (self, method, proceed, arguments) ->
-                invokeMethod(target, method, arguments, method);
+                chains.get(method).invoke(target, arguments);
 
         try {
-            return (T) factory.create(new Class<?>[0], new Object[0], handler);
+            Class<?> proxyClass = ProxyClassCache.get(targetClass, "javassist", List.of(), () -> {
+                ProxyFactory factory = new ProxyFactory();
+                factory.setSuperclass(targetClass);
+                factory.setFilter(chains::containsKey);
+                return factory.createClass();
+            });
+            Object proxy = proxyClass.getDeclaredConstructor().newInstance();
+            ((ProxyObject) proxy).setHandler(handler);
+            return (T) proxy;
         } catch (Exception e) {
             throw new RuntimeException("Failed to create proxy for " + target.getClass(), e);
         }
     }
 
-    private static <T> Object invokeMethod(T target, Method method, Object[] arguments, Method targetMethod) throws IllegalAccessException, InvocationTargetException {
-        if (targetMethod.isAnnotationPresent(Logged.class)) {
-            logger.info("Entering method: {}", targetMethod.getName());
-        }
+    private static Map<Method, InterceptorChain> resolveClassChains(Class<?> targetClass, InterceptionContext context) {
+        Map<Method, InterceptorChain> chains = new HashMap<>();
+        Set<String> signatures = new HashSet<>();
 
-        long startTime = 0;
-        if (targetMethod.isAnnotationPresent(Timed.class)) {
-            startTime = System.currentTimeMillis();
+        for (Class<?> type = targetClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (!isOverridable(method) ||
+                        !signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    continue;
+                }
+                if (InterceptorChain.isIntercepted(method)) {
+                    chains.put(method, InterceptorChain.resolve(targetClass, method, context));
+                }
+            }
         }
 
-        Object result = method.invoke(target, arguments);
+        return chains;
+    }
 
-        if (targetMethod.isAnnotationPresent(Timed.class)) {
-            long duration = System.currentTimeMillis() - startTime;
-            logger.info("Method {} executed in {} ms", targetMethod.getName(), duration);
+    private static Object invokeDirectly(Object target, Method method, Object[] arguments) throws Throwable {
+        try {
+            return method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
         }
+    }
 
-        if (targetMethod.isAnnotationPresent(Logged.class)) {
-            logger.info("Exiting method: {}", targetMethod.getName());
+    private static List<Method> objectMethods() {
+        try {
+            return List.of(Object.class.getMethod("hashCode"),
+                    Object.class.getMethod("equals", Object.class),
+                    Object.class.getMethod("toString"));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
         }
-
-        return result;
     }
 
     private static boolean hasInterface(Class<?> targetClass) {
@@ -115,12 +179,18 @@ public class InterceptionProxyFactory {
     }
 
     private static boolean requiresInterception(Class<?> clazz) {
-        for (Method method : clazz.getDeclaredMethods()) {
-            if (method.isAnnotationPresent(Logged.class) ||
-                    method.isAnnotationPresent(Timed.class)) {
-                return true;
+        for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (isOverridable(method) && InterceptorChain.isIntercepted(method)) {
+                    return true;
+                }
             }
         }
         return false;
     }
-}
\ No newline at end of file
+
+    private static boolean isOverridable(Method method) {
+        int modifiers = method.getModifiers();
+        return !Modifier.isStatic(modifiers) && !Modifier.isPrivate(modifiers) && !method.isBridge();
+    }
+}
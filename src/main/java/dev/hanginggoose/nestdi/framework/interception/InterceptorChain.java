@@ -0,0 +1,154 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import dev.hanginggoose.nestdi.framework.annotations.Async;
+import dev.hanginggoose.nestdi.framework.annotations.Batched;
+import dev.hanginggoose.nestdi.framework.annotations.Cached;
+import dev.hanginggoose.nestdi.framework.annotations.Logged;
+import dev.hanginggoose.nestdi.framework.annotations.Timed;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+public class InterceptorChain {
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final MethodInterceptor[] NO_INTERCEPTORS = new MethodInterceptor[0];
+
+    private final Method method;
+    private final MethodInterceptor[] interceptors;
+    private final MethodHandle invoker;
+
+    private InterceptorChain(Method method, MethodInterceptor[] interceptors, MethodHandle invoker) {
+        this.method = method;
+        this.interceptors = interceptors;
+        this.invoker = invoker;
+    }
+
+    public static InterceptorChain resolve(Method method) {
+        return resolve(method, InterceptionContext.getDefault());
+    }
+
+    public static InterceptorChain resolve(Method method, InterceptionContext context) {
+        return resolve(method.getDeclaringClass(), method, context);
+    }
+
+    public static InterceptorChain resolve(Class<?> targetClass, Method method, InterceptionContext context) {
+        try {
+            method.setAccessible(true);
+            MethodHandle invoker = MethodHandles.lookup().unreflect(method)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(INVOKER_TYPE);
+            return new InterceptorChain(method, interceptorsFor(targetClass, method, context), invoker);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Cannot create interceptor chain for " + method, e);
+        }
+    }
+
+    public static boolean isIntercepted(Method method) {
+        return method.isAnnotationPresent(Logged.class) || method.isAnnotationPresent(Timed.class) ||
+                method.isAnnotationPresent(Cached.class) || isAsync(method) ||
+                method.isAnnotationPresent(Batched.class);
+    }
+
+    private static MethodInterceptor[] interceptorsFor(Class<?> targetClass, Method method,
+                                                       InterceptionContext context) {
+        if (!isIntercepted(method)) {
+            return NO_INTERCEPTORS;
+        }
+
+        List<MethodInterceptor> interceptors = new ArrayList<>();
+        if (isAsync(method)) {
+            interceptors.add(new AsyncInterceptor(method, executorNameOf(method), context.getExecutors()));
+        }
+        if (method.isAnnotationPresent(Logged.class)) {
+            interceptors.add(new LoggedInterceptor(method.getAnnotation(Logged.class), context.getLogWriter()));
+        }
+        if (method.isAnnotationPresent(Timed.class)) {
+            interceptors.add(new TimedInterceptor(context.getTimings().histogram(method)));
+        }
+        if (method.isAnnotationPresent(Cached.class)) {
+            MethodCache cache = context.getCaches().register(targetClass, method, method.getAnnotation(Cached.class));
+            interceptors.add(new CachedInterceptor(cache));
+        }
+        if (method.isAnnotationPresent(Batched.class)) {
+            RequestBatcher batcher = context.getBatches().register(method, method.getAnnotation(Batched.class));
+            interceptors.add(new BatchedInterceptor(method, batcher));
+        }
+        return interceptors.toArray(NO_INTERCEPTORS);
+    }
+
+    private static boolean isAsync(Method method) {
+        if (method.isAnnotationPresent(Async.class)) {
+            return true;
+        }
+
+        int modifiers = method.getModifiers();
+        return method.getDeclaringClass().isAnnotationPresent(Async.class) && Modifier.isPublic(modifiers) &&
+                !Modifier.isStatic(modifiers) && !method.isSynthetic() && !overridesObjectMethod(method);
+    }
+
+    private static boolean overridesObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static String executorNameOf(Method method) {
+        Async methodAsync = method.getAnnotation(Async.class);
+        String executorName = methodAsync != null ? methodAsync.value() : "";
+        Async beanAsync = method.getDeclaringClass().getAnnotation(Async.class);
+        return executorName.isEmpty() && beanAsync != null ? beanAsync.value() : executorName;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public boolean isEmpty() {
+        return interceptors.length == 0;
+    }
+
+    public boolean isInlinable() {
+        for (MethodInterceptor interceptor : interceptors) {
+            if (!(interceptor instanceof InvocationHook hook) || !hook.isInlinable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long before() {
+        for (MethodInterceptor interceptor : interceptors) {
+            ((InvocationHook) interceptor).before(method);
+        }
+        return System.nanoTime();
+    }
+
+    public void after(long started) {
+        long elapsedNanos = System.nanoTime() - started;
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            ((InvocationHook) interceptors[i]).after(method, elapsedNanos);
+        }
+    }
+
+    public Object invoke(Object target, Object[] arguments) throws Throwable {
+        if (interceptors.length == 0) {
+            return (Object) invoker.invokeExact(target, arguments);
+        }
+        return new MethodInvocation(this, target, arguments).proceed();
+    }
+
+    Object proceed(MethodInvocation invocation, int position) throws Throwable {
+        if (position < interceptors.length) {
+            return interceptors[position].intercept(invocation);
+        }
+        return (Object) invoker.invokeExact(invocation.getTarget(), invocation.getArguments());
+    }
+}
@@ -0,0 +1,22 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import java.lang.reflect.Method;
+
+public interface InvocationHook extends MethodInterceptor {
+    void before(Method method);
+
+    void after(Method method, long elapsedNanos);
+
+    default boolean isInlinable() {
+        return true;
+    }
+
+    @Override
+    default Object intercept(MethodInvocation invocation) throws Throwable {
+        before(invocation.getMethod());
+        long started = System.nanoTime();
+        Object result = invocation.proceed();
+        after(invocation.getMethod(), System.nanoTime() - started);
+        return result;
+    }
+}
@@ -0,0 +1,113 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import javassist.util.proxy.MethodHandler;
+import javassist.util.proxy.ProxyFactory;
+import javassist.util.proxy.ProxyObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import sun.reflect.ReflectionFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public class LazyProxyFactory {
+    private static final Logger logger = LoggerFactory.getLogger(LazyProxyFactory.class);
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    public static Object createProxy(Class<?> beanClass, Supplier<Object> target) {
+        LazyHandler handler = new LazyHandler(beanClass, target);
+        if (SubclassProxyGenerator.canProxy(beanClass) && !SubclassProxyGenerator.hasFinalMethods(beanClass)) {
+            try {
+                return createSubclassProxy(beanClass, handler);
+            } catch (Exception | LinkageError e) {
+                logger.debug("Cannot create lazy subclass proxy for {}: {}", beanClass.getSimpleName(), e.getMessage());
+            }
+        }
+
+        Class<?>[] interfaces = beanClass.isInterface() ? new Class<?>[]{beanClass} : beanClass.getInterfaces();
+        if (interfaces.length > 0) {
+            return Proxy.newProxyInstance(beanClass.getClassLoader(), interfaces, handler);
+        }
+
+        return null;
+    }
+
+    private static Object createSubclassProxy(Class<?> beanClass, LazyHandler handler) throws Exception {
+        Constructor<?> constructor = ProxyClassCache.get(beanClass, "lazy", List.of(), () -> {
+            ProxyFactory factory = new ProxyFactory();
+            factory.setSuperclass(beanClass);
+            return ReflectionFactory.getReflectionFactory()
+                    .newConstructorForSerialization(factory.createClass(), Object.class.getDeclaredConstructor());
+        });
+        Object proxy = constructor.newInstance();
+        ((ProxyObject) proxy).setHandler(handler);
+
+        logger.debug("Created lazy proxy for {}", beanClass.getSimpleName());
+        return proxy;
+    }
+
+    private static final class LazyHandler implements InvocationHandler, MethodHandler {
+        private final Class<?> beanClass;
+        private final Supplier<Object> target;
+        private final Map<Method, MethodHandle> invokers = new ConcurrentHashMap<>();
+
+        private LazyHandler(Class<?> beanClass, Supplier<Object> target) {
+            this.beanClass = beanClass;
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object self, Method method, Method proceed, Object[] arguments) throws Throwable {
+            return invoke(self, method, arguments);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+            switch (method.getName()) {
+                case "hashCode" -> {
+                    if (method.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+                }
+                case "equals" -> {
+                    if (method.getParameterCount() == 1 && method.getParameterTypes()[0] == Object.class) {
+                        return proxy == arguments[0];
+                    }
+                }
+                case "toString" -> {
+                    if (method.getParameterCount() == 0) {
+                        return "LazyProxy[" + beanClass.getName() + "]";
+                    }
+                }
+                default -> {
+                }
+            }
+
+            Object[] values = arguments != null ? arguments : NO_ARGUMENTS;
+            return invokerFor(method).invokeExact(target.get(), values);
+        }
+
+        private MethodHandle invokerFor(Method method) {
+            return invokers.computeIfAbsent(method, key -> {
+                try {
+                    key.setAccessible(true);
+                    return MethodHandles.lookup().unreflect(key)
+                            .asSpreader(Object[].class, key.getParameterCount())
+                            .asType(INVOKER_TYPE);
+                } catch (IllegalAccessException | RuntimeException e) {
+                    throw new IllegalStateException("Cannot create lazy invoker for " + key, e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+class LogEvent {
+    private static final Logger logger = LoggerFactory.getLogger(LoggedInterceptor.class);
+
+    enum Kind {
+        ENTERING,
+        EXITING,
+        FAILED
+    }
+
+    private final Kind kind;
+    private final Method method;
+    private final Object value;
+    private final boolean captured;
+    private final long elapsedNanos;
+
+    private LogEvent(Kind kind, Method method, Object value, boolean captured, long elapsedNanos) {
+        this.kind = kind;
+        this.method = method;
+        this.value = value;
+        this.captured = captured;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    static LogEvent entering(Method method, Object[] arguments, boolean captured) {
+        return new LogEvent(Kind.ENTERING, method, arguments, captured, 0);
+    }
+
+    static LogEvent exiting(Method method, Object result, boolean captured, long elapsedNanos) {
+        return new LogEvent(Kind.EXITING, method, result, captured, elapsedNanos);
+    }
+
+    static LogEvent failed(Method method, Throwable exception, long elapsedNanos) {
+        return new LogEvent(Kind.FAILED, method, exception, true, elapsedNanos);
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    void write() {
+        switch (kind) {
+            case ENTERING -> {
+                if (captured) {
+                    Object[] arguments = (Object[]) value;
+                    logger.info("Entering method: {} with arguments {}", method.getName(),
+                            arguments != null ? Arrays.deepToString(arguments) : "[]");
+                } else {
+                    logger.info("Entering method: {}", method.getName());
+                }
+            }
+            case EXITING -> {
+                if (captured) {
+                    logger.info("Exiting method: {} returning {} after {} ns", method.getName(), value,
+                            elapsedNanos);
+                } else {
+                    logger.info("Exiting method: {}", method.getName());
+                }
+            }
+            case FAILED -> logger.info("Exiting method: {} with exception {} after {} ns", method.getName(), value,
+                    elapsedNanos);
+        }
+    }
+}
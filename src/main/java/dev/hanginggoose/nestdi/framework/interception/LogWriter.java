@@ -0,0 +1,149 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class LogWriter {
+    public static final String QUEUE_CAPACITY_PROPERTY = "nestdi.logged.queue.capacity";
+
+    private static final Logger logger = LoggerFactory.getLogger(LogWriter.class);
+    private static final long FLUSH_POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final BoundedEventQueue<LogEvent> queue;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private final AtomicLong written = new AtomicLong();
+    private volatile Thread writer;
+    private volatile boolean running;
+    private volatile boolean parked;
+    private volatile boolean closed;
+
+    public LogWriter() {
+        this(Integer.getInteger(QUEUE_CAPACITY_PROPERTY, 8192));
+    }
+
+    public LogWriter(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Log queue capacity must be positive, got " + capacity);
+        }
+        this.queue = new BoundedEventQueue<>(capacity);
+    }
+
+    void publish(LogEvent event) {
+        if (closed) {
+            dropped.increment();
+            return;
+        }
+        if (writer == null) {
+            start();
+        }
+
+        if (queue.offer(event)) {
+            published.increment();
+            Thread current = writer;
+            if (parked && current != null) {
+                LockSupport.unpark(current);
+            }
+        } else {
+            dropped.increment();
+        }
+    }
+
+    void suppress() {
+        suppressed.increment();
+    }
+
+    public void flush() {
+        long target = published.sum();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (written.get() < target && System.nanoTime() < deadline) {
+            Thread current = writer;
+            if (current == null) {
+                return;
+            }
+            LockSupport.unpark(current);
+            LockSupport.parkNanos(FLUSH_POLL_NANOS);
+        }
+    }
+
+    public synchronized void close() {
+        closed = true;
+        Thread current = writer;
+        if (current == null) {
+            return;
+        }
+
+        flush();
+        running = false;
+        LockSupport.unpark(current);
+        try {
+            current.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public int getQueueCapacity() {
+        return queue.capacity();
+    }
+
+    private synchronized void start() {
+        if (writer != null || closed) {
+            return;
+        }
+
+        running = true;
+        Thread thread = new Thread(this::drain, "nest-di-logger");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    private void drain() {
+        while (true) {
+            LogEvent event = queue.poll();
+            if (event == null) {
+                if (!running) {
+                    return;
+                }
+                parked = true;
+                if (queue.size() == 0 && running) {
+                    LockSupport.park(this);
+                }
+                parked = false;
+                continue;
+            }
+
+            try {
+                event.write();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to write log event for method {}", event.getMethod().getName(), e);
+            }
+            written.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import dev.hanginggoose.nestdi.framework.annotations.Logged;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LoggedInterceptor implements InvocationHook {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final LogWriter writer;
+    private final double sampleRate;
+    private final int maxPerSecond;
+    private final boolean captureArguments;
+    private final boolean captureResult;
+    private final AtomicLong window = new AtomicLong();
+
+    public LoggedInterceptor(Logged logged, LogWriter writer) {
+        if (logged.sampleRate() < 0 || logged.sampleRate() > 1) {
+            throw new IllegalArgumentException("@Logged sampleRate must be between 0 and 1, got " +
+                    logged.sampleRate());
+        }
+        if (logged.maxPerSecond() < 0) {
+            throw new IllegalArgumentException("@Logged maxPerSecond must not be negative, got " +
+                    logged.maxPerSecond());
+        }
+
+        this.writer = writer;
+        this.sampleRate = logged.sampleRate();
+        this.maxPerSecond = logged.maxPerSecond();
+        this.captureArguments = logged.arguments();
+        this.captureResult = logged.result();
+    }
+
+    @Override
+    public boolean isInlinable() {
+        return sampleRate >= 1 && maxPerSecond == 0 && !captureArguments && !captureResult;
+    }
+
+    @Override
+    public void before(Method method) {
+        writer.publish(LogEvent.entering(method, null, false));
+    }
+
+    @Override
+    public void after(Method method, long elapsedNanos) {
+        writer.publish(LogEvent.exiting(method, null, false, elapsedNanos));
+    }
+
+    @Override
+    public Object intercept(MethodInvocation invocation) throws Throwable {
+        if (!shouldLog()) {
+            writer.suppress();
+            return invocation.proceed();
+        }
+
+        Method method = invocation.getMethod();
+        writer.publish(LogEvent.entering(method, captureArguments ? invocation.getArguments() : null,
+                captureArguments));
+        long started = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable exception) {
+            if (captureResult) {
+                writer.publish(LogEvent.failed(method, exception, System.nanoTime() - started));
+            }
+            throw exception;
+        }
+        writer.publish(LogEvent.exiting(method, result, captureResult, System.nanoTime() - started));
+        return result;
+    }
+
+    private boolean shouldLog() {
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        if (maxPerSecond == 0) {
+            return true;
+        }
+
+        long second = (System.nanoTime() / NANOS_PER_SECOND) & COUNT_MASK;
+        while (true) {
+            long current = window.get();
+            long permits = (current >>> 32) == second ? current & COUNT_MASK : 0;
+            if (permits >= maxPerSecond) {
+                return false;
+            }
+            if (window.compareAndSet(current, (second << 32) | (permits + 1))) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class MethodCache {
+    private final int maxSize;
+    private final long expireAfterWriteNanos;
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final LinkedHashMap<Object, Entry> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock orderLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MethodCache(int maxSize, long expireAfterWriteMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache max size must be positive, got " + maxSize);
+        }
+        if (expireAfterWriteMillis < 0) {
+            throw new IllegalArgumentException("Cache expiry must not be negative, got " + expireAfterWriteMillis);
+        }
+
+        this.maxSize = maxSize;
+        this.expireAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(expireAfterWriteMillis);
+    }
+
+    public Object get(Object key, MethodInvocation invocation) throws Throwable {
+        while (true) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.owner == Thread.currentThread()) {
+                    misses.increment();
+                    return invocation.proceed();
+                }
+                if (!entry.isExpired(System.nanoTime())) {
+                    hits.increment();
+                    touch(key);
+                    return entry.await();
+                }
+                remove(key, entry);
+                continue;
+            }
+
+            Entry created = new Entry();
+            if (entries.putIfAbsent(key, created) != null) {
+                continue;
+            }
+
+            misses.increment();
+            Object value;
+            try {
+                value = invocation.proceed();
+            } catch (Throwable exception) {
+                entries.remove(key, created);
+                created.owner = null;
+                created.future.completeExceptionally(exception);
+                throw exception;
+            }
+
+            created.expiresAt = expireAfterWriteNanos > 0 ? System.nanoTime() + expireAfterWriteNanos : 0;
+            created.owner = null;
+            created.future.complete(value);
+            admit(key, created);
+            return value;
+        }
+    }
+
+    public void invalidateAll() {
+        orderLock.lock();
+        try {
+            accessOrder.clear();
+            entries.clear();
+        } finally {
+            orderLock.unlock();
+        }
+    }
+
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private void touch(Object key) {
+        if (orderLock.tryLock()) {
+            try {
+                accessOrder.get(key);
+            } finally {
+                orderLock.unlock();
+            }
+        }
+    }
+
+    private void admit(Object key, Entry entry) {
+        orderLock.lock();
+        try {
+            if (entries.get(key) != entry) {
+                return;
+            }
+
+            accessOrder.put(key, entry);
+            Iterator<Map.Entry<Object, Entry>> eldest = accessOrder.entrySet().iterator();
+            while (accessOrder.size() > maxSize && eldest.hasNext()) {
+                Map.Entry<Object, Entry> evicted = eldest.next();
+                eldest.remove();
+                entries.remove(evicted.getKey(), evicted.getValue());
+                evictions.increment();
+            }
+        } finally {
+            orderLock.unlock();
+        }
+    }
+
+    private void remove(Object key, Entry entry) {
+        orderLock.lock();
+        try {
+            accessOrder.remove(key, entry);
+            entries.remove(key, entry);
+        } finally {
+            orderLock.unlock();
+        }
+    }
+
+    private static class Entry {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile Thread owner = Thread.currentThread();
+        private volatile long expiresAt;
+
+        private boolean isExpired(long now) {
+            long expiry = expiresAt;
+            return expiry != 0 && now - expiry >= 0;
+        }
+
+        private Object await() throws Throwable {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
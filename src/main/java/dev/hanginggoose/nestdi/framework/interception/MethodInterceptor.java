@@ -0,0 +1,5 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+public interface MethodInterceptor {
+    Object intercept(MethodInvocation invocation) throws Throwable;
+}
@@ -0,0 +1,32 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import java.lang.reflect.Method;
+
+public class MethodInvocation {
+    private final InterceptorChain chain;
+    private final Object target;
+    private final Object[] arguments;
+    private int position;
+
+    MethodInvocation(InterceptorChain chain, Object target, Object[] arguments) {
+        this.chain = chain;
+        this.target = target;
+        this.arguments = arguments;
+    }
+
+    public Method getMethod() {
+        return chain.getMethod();
+    }
+
+    public Object getTarget() {
+        return target;
+    }
+
+    public Object[] getArguments() {
+        return arguments;
+    }
+
+    public Object proceed() throws Throwable {
+        return chain.proceed(this, position++);
+    }
+}
@@ -0,0 +1,59 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ProxyClassCache {
+    public static final String MAX_VARIANTS_PROPERTY = "nestdi.proxy.cache.variants";
+
+    private static final int MAX_VARIANTS = Integer.getInteger(MAX_VARIANTS_PROPERTY, 16);
+    private static final ClassValue<Variants> VARIANTS = new ClassValue<>() {
+        @Override
+        protected Variants computeValue(Class<?> type) {
+            return new Variants();
+        }
+    };
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public static <V> V get(Class<?> targetClass, String kind, List<?> key, Callable<V> generator) throws Exception {
+        Variants variants = VARIANTS.get(targetClass);
+        List<Object> variantKey = List.of(kind, key);
+
+        synchronized (variants) {
+            Object cached = variants.get(variantKey);
+            if (cached != null) {
+                hits.increment();
+                return (V) cached;
+            }
+
+            misses.increment();
+            V generated = generator.call();
+            variants.put(variantKey, generated);
+            return generated;
+        }
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    private static class Variants extends LinkedHashMap<Object, Object> {
+        private Variants() {
+            super(4, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+            return size() > MAX_VARIANTS;
+        }
+    }
+}
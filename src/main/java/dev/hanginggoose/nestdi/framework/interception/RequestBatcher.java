@@ -0,0 +1,169 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class RequestBatcher {
+    private final Method bulkMethod;
+    private final boolean bulkTakesSet;
+    private final int maxSize;
+    private final long windowNanos;
+    private final Supplier<ScheduledExecutorService> scheduler;
+    private final AsyncExecutors executors;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAccumulator maxBatchSize = new LongAccumulator(Math::max, 0);
+    private final LatencyHistogram waitTimes = new LatencyHistogram();
+    private final Map<Object, PendingBatch> pending = new IdentityHashMap<>();
+
+    RequestBatcher(Method bulkMethod, int maxSize, long windowMillis, Supplier<ScheduledExecutorService> scheduler,
+                   AsyncExecutors executors) {
+        this.bulkMethod = bulkMethod;
+        this.bulkTakesSet = !bulkMethod.getParameterTypes()[0].isAssignableFrom(ArrayList.class);
+        this.maxSize = maxSize;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.scheduler = scheduler;
+        this.executors = executors;
+        bulkMethod.setAccessible(true);
+    }
+
+    public CompletableFuture<Object> submit(Object target, Object key) {
+        PendingRequest request = new PendingRequest(key);
+        List<PendingRequest> ready = null;
+
+        lock.lock();
+        try {
+            PendingBatch batch = pending.computeIfAbsent(target, ignored -> new PendingBatch());
+            batch.requests.add(request);
+            if (batch.requests.size() >= maxSize) {
+                ready = takePending(target);
+            } else if (batch.requests.size() == 1) {
+                batch.scheduledFlush = scheduler.get()
+                        .schedule(() -> flush(target), windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            ready = takePending(target);
+            ready.forEach(pendingRequest -> pendingRequest.future.completeExceptionally(e));
+            return request.future;
+        } finally {
+            lock.unlock();
+        }
+
+        if (ready != null) {
+            dispatch(target, ready);
+        }
+        return request.future;
+    }
+
+    public BatchStatistics getStatistics() {
+        return new BatchStatistics(batches.sum(), requests.sum(), maxBatchSize.get(), waitTimes.snapshot());
+    }
+
+    void rejectPending(RejectedExecutionException exception) {
+        List<PendingRequest> rejected = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Object target : List.copyOf(pending.keySet())) {
+                rejected.addAll(takePending(target));
+            }
+        } finally {
+            lock.unlock();
+        }
+        rejected.forEach(request -> request.future.completeExceptionally(exception));
+    }
+
+    private List<PendingRequest> takePending(Object target) {
+        PendingBatch batch = pending.remove(target);
+        if (batch == null) {
+            return List.of();
+        }
+        if (batch.scheduledFlush != null) {
+            batch.scheduledFlush.cancel(false);
+        }
+        return batch.requests;
+    }
+
+    private void flush(Object target) {
+        List<PendingRequest> ready;
+        lock.lock();
+        try {
+            ready = takePending(target);
+        } finally {
+            lock.unlock();
+        }
+
+        if (!ready.isEmpty()) {
+            dispatch(target, ready);
+        }
+    }
+
+    private void dispatch(Object target, List<PendingRequest> batch) {
+        try {
+            executors.get(AsyncExecutors.DEFAULT_EXECUTOR).execute(() -> invokeBulk(target, batch));
+        } catch (RuntimeException e) {
+            batch.forEach(request -> request.future.completeExceptionally(e));
+        }
+    }
+
+    private void invokeBulk(Object target, List<PendingRequest> batch) {
+        long dispatched = System.nanoTime();
+        Map<Object, Integer> positions = new LinkedHashMap<>();
+        for (PendingRequest request : batch) {
+            waitTimes.record(dispatched - request.enqueued);
+            positions.putIfAbsent(request.key, positions.size());
+        }
+        batches.increment();
+        requests.add(batch.size());
+        maxBatchSize.accumulate(batch.size());
+
+        try {
+            Collection<Object> keys = bulkTakesSet ? new LinkedHashSet<>(positions.keySet()) :
+                    new ArrayList<>(positions.keySet());
+            Object results = bulkMethod.invoke(target, keys);
+            if (results instanceof Map<?, ?> resultsByKey) {
+                batch.forEach(request -> request.future.complete(resultsByKey.get(request.key)));
+            } else if (results instanceof List<?> resultList && resultList.size() == positions.size()) {
+                batch.forEach(request -> request.future.complete(resultList.get(positions.get(request.key))));
+            } else {
+                throw new IllegalStateException("Bulk method " + bulkMethod.getName() +
+                        " must return a Map or a List with one result per key");
+            }
+        } catch (InvocationTargetException e) {
+            batch.forEach(request -> request.future.completeExceptionally(e.getCause()));
+        } catch (Throwable e) {
+            batch.forEach(request -> request.future.completeExceptionally(e));
+        }
+    }
+
+    private static class PendingBatch {
+        private final List<PendingRequest> requests = new ArrayList<>();
+        private ScheduledFuture<?> scheduledFlush;
+    }
+
+    private static class PendingRequest {
+        private final Object key;
+        private final long enqueued = System.nanoTime();
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        private PendingRequest(Object key) {
+            this.key = key;
+        }
+    }
+}
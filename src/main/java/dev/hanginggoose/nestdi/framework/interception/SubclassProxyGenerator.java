@@ -0,0 +1,187 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import javassist.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import sun.reflect.ReflectionFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SubclassProxyGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(SubclassProxyGenerator.class);
+    private static final String PROXY_SUFFIX = "$$NestProxy$";
+    private static final String TARGET_FIELD = "target";
+    private static final String CHAINS_FIELD = "chains";
+    private static final Set<String> OBJECT_METHODS = Set.of("hashCode", "equals", "toString");
+    private static final AtomicInteger proxyCounter = new AtomicInteger();
+    private static final ClassValue<List<Method>> METHODS = new ClassValue<>() {
+        @Override
+        protected List<Method> computeValue(Class<?> type) {
+            return overridableMethods(type);
+        }
+    };
+
+    public static boolean canProxy(Class<?> targetClass) {
+        int modifiers = targetClass.getModifiers();
+        return !Modifier.isFinal(modifiers) && !targetClass.isInterface() && !targetClass.isHidden() &&
+                !targetClass.isArray() && !targetClass.isPrimitive() && targetClass.getClassLoader() != null;
+    }
+
+    public static boolean hasFinalMethods(Class<?> targetClass) {
+        for (Class<?> type = targetClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                int modifiers = method.getModifiers();
+                if (Modifier.isFinal(modifiers) && !Modifier.isPrivate(modifiers) && !Modifier.isStatic(modifiers)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static <T> T createProxy(T target, InterceptionContext context) throws Exception {
+        Class<?> targetClass = target.getClass();
+        List<Method> methods = METHODS.get(targetClass);
+
+        InterceptorChain[] chains = new InterceptorChain[methods.size()];
+        StringBuilder signature = new StringBuilder(chains.length);
+        for (int i = 0; i < chains.length; i++) {
+            if (InterceptorChain.isIntercepted(methods.get(i))) {
+                chains[i] = InterceptorChain.resolve(targetClass, methods.get(i), context);
+                signature.append(chains[i].isInlinable() ? 'h' : 'a');
+            } else {
+                signature.append('-');
+            }
+        }
+
+        GeneratedProxy generatedProxy = ProxyClassCache.get(targetClass, "generated", List.of(signature.toString()),
+                () -> new GeneratedProxy(generateClass(targetClass, methods, chains)));
+        return generatedProxy.newInstance(target, chains);
+    }
+
+    private static Class<?> generateClass(Class<?> targetClass, List<Method> methods, InterceptorChain[] chains)
+            throws CannotCompileException, NotFoundException {
+        ClassPool pool = new ClassPool(true);
+        pool.appendClassPath(new LoaderClassPath(targetClass.getClassLoader()));
+        pool.appendClassPath(new ClassClassPath(InterceptorChain.class));
+
+        CtClass superclass = pool.get(targetClass.getName());
+        CtClass proxyClass = pool.makeClass(targetClass.getName() + PROXY_SUFFIX + proxyCounter.incrementAndGet(),
+                superclass);
+        proxyClass.setModifiers(Modifier.PUBLIC | Modifier.FINAL);
+
+        CtField targetField = new CtField(superclass, TARGET_FIELD, proxyClass);
+        targetField.setModifiers(Modifier.PUBLIC);
+        proxyClass.addField(targetField);
+        CtField chainsField = new CtField(pool.get(InterceptorChain.class.getName() + "[]"), CHAINS_FIELD, proxyClass);
+        chainsField.setModifiers(Modifier.PUBLIC);
+        proxyClass.addField(chainsField);
+
+        for (int i = 0; i < methods.size(); i++) {
+            proxyClass.addMethod(generateMethod(pool, proxyClass, methods.get(i), chains[i], i));
+        }
+
+        try {
+            return proxyClass.toClass(targetClass);
+        } finally {
+            proxyClass.detach();
+        }
+    }
+
+    private static CtMethod generateMethod(ClassPool pool, CtClass proxyClass, Method method, InterceptorChain chain,
+                                           int index) throws CannotCompileException, NotFoundException {
+        boolean returnsValue = method.getReturnType() != void.class;
+        String call = "this." + TARGET_FIELD + "." + method.getName() + "($$)";
+        String chainField = "this." + CHAINS_FIELD + "[" + index + "]";
+
+        String body;
+        if (chain == null) {
+            body = "{ " + (returnsValue ? "return " : "") + call + "; }";
+        } else if (!chain.isInlinable()) {
+            body = "{ " + (returnsValue ? "return ($r) " : "") +
+                    chainField + ".invoke(this." + TARGET_FIELD + ", $args); }";
+        } else {
+            String after = chainField + ".after(nestStarted);";
+            body = "{ long nestStarted = " + chainField + ".before(); try { " +
+                    (returnsValue ? method.getReturnType().getTypeName() + " nestResult = " + call + "; " +
+                            after + " return nestResult; " : call + "; " + after + " ") +
+                    "} catch (java.lang.Throwable nestFailure) { " + after + " throw nestFailure; } }";
+        }
+
+        return CtNewMethod.make(
+                method.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED),
+                ctClassOf(pool, method.getReturnType()),
+                method.getName(),
+                ctClassesOf(pool, method.getParameterTypes()),
+                ctClassesOf(pool, method.getExceptionTypes()),
+                body,
+                proxyClass);
+    }
+
+    private static List<Method> overridableMethods(Class<?> targetClass) {
+        List<Method> methods = new ArrayList<>();
+        Set<String> signatures = new HashSet<>();
+
+        for (Class<?> type = targetClass; type != null; type = type.getSuperclass()) {
+            boolean samePackage = type.getPackageName().equals(targetClass.getPackageName());
+            for (Method method : type.getDeclaredMethods()) {
+                int modifiers = method.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isPrivate(modifiers) || method.isBridge() ||
+                        method.isSynthetic() ||
+                        !signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    continue;
+                }
+                if (Modifier.isFinal(modifiers) || (!Modifier.isPublic(modifiers) && !samePackage) ||
+                        (type == Object.class && !OBJECT_METHODS.contains(method.getName()))) {
+                    continue;
+                }
+                methods.add(method);
+            }
+        }
+
+        return List.copyOf(methods);
+    }
+
+    private static CtClass ctClassOf(ClassPool pool, Class<?> type) throws NotFoundException {
+        return pool.get(type.getTypeName());
+    }
+
+    private static CtClass[] ctClassesOf(ClassPool pool, Class<?>[] types) throws NotFoundException {
+        CtClass[] ctClasses = new CtClass[types.length];
+        for (int i = 0; i < types.length; i++) {
+            ctClasses[i] = ctClassOf(pool, types[i]);
+        }
+        return ctClasses;
+    }
+
+    private static class GeneratedProxy {
+        private final Class<?> proxyClass;
+        private final Constructor<?> constructor;
+        private final Field targetField;
+        private final Field chainsField;
+
+        private GeneratedProxy(Class<?> proxyClass) throws ReflectiveOperationException {
+            this.proxyClass = proxyClass;
+            this.constructor = ReflectionFactory.getReflectionFactory()
+                    .newConstructorForSerialization(proxyClass, Object.class.getDeclaredConstructor());
+            this.targetField = proxyClass.getField(TARGET_FIELD);
+            this.chainsField = proxyClass.getField(CHAINS_FIELD);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T newInstance(T target, InterceptorChain[] chains) throws ReflectiveOperationException {
+            Object proxy = constructor.newInstance();
+            targetField.set(proxy, target);
+            chainsField.set(proxy, chains);
+
+            logger.debug("Created generated proxy {} for {}", proxyClass.getSimpleName(),
+                    target.getClass().getSimpleName());
+            return (T) proxy;
+        }
+    }
+}
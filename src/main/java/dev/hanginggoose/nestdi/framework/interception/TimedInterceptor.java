@@ -0,0 +1,20 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import java.lang.reflect.Method;
+
+public class TimedInterceptor implements InvocationHook {
+    private final LatencyHistogram histogram;
+
+    public TimedInterceptor(LatencyHistogram histogram) {
+        this.histogram = histogram;
+    }
+
+    @Override
+    public void before(Method method) {
+    }
+
+    @Override
+    public void after(Method method, long elapsedNanos) {
+        histogram.record(elapsedNanos);
+    }
+}
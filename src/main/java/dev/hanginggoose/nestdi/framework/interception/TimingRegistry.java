@@ -0,0 +1,70 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class TimingRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(TimingRegistry.class);
+
+    private final Map<Method, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private ScheduledExecutorService reporter;
+
+    public LatencyHistogram histogram(Method method) {
+        return histograms.computeIfAbsent(method, key -> new LatencyHistogram());
+    }
+
+    public TimingStatistics getStatistics(Method method) {
+        LatencyHistogram histogram = histograms.get(method);
+        return histogram != null ? histogram.snapshot() : null;
+    }
+
+    public Map<Method, TimingStatistics> getStatistics() {
+        Map<Method, TimingStatistics> statistics = new LinkedHashMap<>();
+        histograms.forEach((method, histogram) -> statistics.put(method, histogram.snapshot()));
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    public void reset() {
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+
+    public synchronized void startReporting(Duration interval) {
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Reporting interval must be positive, got " + interval);
+        }
+
+        stopReporting();
+        reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "nest-di-timings");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reporter.scheduleAtFixedRate(this::logSummary, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public synchronized void stopReporting() {
+        if (reporter != null) {
+            reporter.shutdownNow();
+            reporter = null;
+        }
+    }
+
+    public void logSummary() {
+        getStatistics().forEach((method, statistics) -> {
+            if (statistics.getCount() > 0) {
+                logger.info("Method {}.{}: {}", method.getDeclaringClass().getSimpleName(), method.getName(),
+                        statistics);
+            }
+        });
+    }
+}
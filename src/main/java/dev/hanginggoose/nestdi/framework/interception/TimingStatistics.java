@@ -0,0 +1,51 @@
+package dev.hanginggoose.nestdi.framework.interception;
+
+import java.time.Duration;
+
+public class TimingStatistics {
+    private final long count;
+    private final long meanNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+
+    TimingStatistics(long count, long meanNanos, long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+        this.count = count;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Duration getMean() {
+        return Duration.ofNanos(meanNanos);
+    }
+
+    public Duration getP50() {
+        return Duration.ofNanos(p50Nanos);
+    }
+
+    public Duration getP99() {
+        return Duration.ofNanos(p99Nanos);
+    }
+
+    public Duration getP999() {
+        return Duration.ofNanos(p999Nanos);
+    }
+
+    public Duration getMax() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.3f ms, p50=%.3f ms, p99=%.3f ms, p999=%.3f ms, max=%.3f ms",
+                count, meanNanos / 1e6, p50Nanos / 1e6, p99Nanos / 1e6, p999Nanos / 1e6, maxNanos / 1e6);
+    }
+}
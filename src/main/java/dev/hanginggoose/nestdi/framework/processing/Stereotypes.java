@@ -0,0 +1,88 @@
+package dev.hanginggoose.nestdi.framework.processing;
+
+import dev.hanginggoose.nestdi.framework.annotations.*;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+final class Stereotypes {
+    private static final Set<String> STEREOTYPES = Set.of(
+            Component.class.getName(),
+            Service.class.getName(),
+            Repository.class.getName(),
+            Controller.class.getName(),
+            Configuration.class.getName()
+    );
+
+    private Stereotypes() {
+    }
+
+    static boolean isComponent(TypeElement type) {
+        return inHierarchy(type, current -> {
+            for (AnnotationMirror annotation : current.getAnnotationMirrors()) {
+                TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+                if (isStereotype(annotationType, new HashSet<>())) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    private static boolean isStereotype(TypeElement annotationType, Set<String> visited) {
+        String name = annotationType.getQualifiedName().toString();
+        if (STEREOTYPES.contains(name)) {
+            return true;
+        }
+        if (!visited.add(name)) {
+            return false;
+        }
+
+        for (AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+            if (isStereotype((TypeElement) meta.getAnnotationType().asElement(), visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isConfiguration(TypeElement type) {
+        return inHierarchy(type, current -> current.getAnnotation(Configuration.class) != null);
+    }
+
+    private static boolean inHierarchy(TypeElement type, Predicate<TypeElement> predicate) {
+        Deque<TypeElement> pending = new ArrayDeque<>();
+        Set<String> visited = new HashSet<>();
+        pending.push(type);
+
+        while (!pending.isEmpty()) {
+            TypeElement current = pending.pop();
+            if (!visited.add(current.getQualifiedName().toString())) {
+                continue;
+            }
+            if (predicate.test(current)) {
+                return true;
+            }
+
+            pushSupertype(pending, current.getSuperclass());
+            for (TypeMirror interfaceType : current.getInterfaces()) {
+                pushSupertype(pending, interfaceType);
+            }
+        }
+        return false;
+    }
+
+    private static void pushSupertype(Deque<TypeElement> pending, TypeMirror supertype) {
+        if (supertype.getKind() == TypeKind.DECLARED) {
+            pending.push((TypeElement) ((DeclaredType) supertype).asElement());
+        }
+    }
+}
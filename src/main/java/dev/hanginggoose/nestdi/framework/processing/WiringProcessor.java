@@ -0,0 +1,449 @@
+package dev.hanginggoose.nestdi.framework.processing;
+
+import dev.hanginggoose.nestdi.framework.annotations.Autowired;
+import dev.hanginggoose.nestdi.framework.annotations.Bean;
+import dev.hanginggoose.nestdi.framework.annotations.Lazy;
+import dev.hanginggoose.nestdi.framework.core.ContainerWiring;
+import dev.hanginggoose.nestdi.framework.core.DIContainerFactory;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@SupportedAnnotationTypes("*")
+@SupportedOptions(DIContainerFactory.WIRING_OPTION)
+public class WiringProcessor extends AbstractProcessor {
+    private final Map<String, BeanNode> components = new LinkedHashMap<>();
+    private final Map<String, BeanNode> beans = new LinkedHashMap<>();
+    private final Map<String, BeanNode> beanNames = new HashMap<>();
+    private final Set<TypeElement> originatingTypes = new LinkedHashSet<>();
+    private boolean generated;
+    private boolean invalid;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        String wiringClass = processingEnv.getOptions().get(DIContainerFactory.WIRING_OPTION);
+        if (wiringClass == null || wiringClass.isBlank() || generated || roundEnv.processingOver()) {
+            return false;
+        }
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collect(type);
+        }
+
+        generated = true;
+        generate(wiringClass.trim());
+        return false;
+    }
+
+    private void collect(TypeElement type) {
+        if (type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(Modifier.ABSTRACT)) {
+            if (Stereotypes.isComponent(type)) {
+                ExecutableElement constructor = findConstructor(type);
+                Autowired autowired = constructor.getAnnotation(Autowired.class);
+                BeanNode node = new BeanNode(erasure(type.asType()), constructor, type, null,
+                        isLazy(type), autowired == null || autowired.required());
+                components.put(node.typeName, node);
+                originatingTypes.add(type);
+            }
+
+            if (Stereotypes.isConfiguration(type)) {
+                for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                    Bean bean = method.getAnnotation(Bean.class);
+                    if (bean != null) {
+                        String name = bean.name().isEmpty() ? method.getSimpleName().toString() : bean.name();
+                        BeanNode node = new BeanNode(erasure(method.getReturnType()), method, type, name,
+                                isLazy(method), true);
+                        addBean(node);
+                        originatingTypes.add(type);
+                    }
+                }
+            }
+        }
+
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collect(nested);
+        }
+    }
+
+    private void addBean(BeanNode node) {
+        BeanNode sameName = beanNames.putIfAbsent(node.beanName, node);
+        if (sameName != null) {
+            error("Bean name already exists: " + node.beanName + " (declared by " + describe(sameName) + ")",
+                    node.executable);
+            return;
+        }
+
+        BeanNode sameType = beans.putIfAbsent(node.typeName, node);
+        if (sameType != null) {
+            error("Duplicate bean of type " + node.typeName + ": " + describe(node) + " and " + describe(sameType) +
+                    "; generated wiring supports one bean per type", node.executable);
+        }
+    }
+
+    private void error(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        invalid = true;
+    }
+
+    private static String describe(BeanNode node) {
+        return node.isFactoryMethod() ?
+                node.owner.getQualifiedName() + "." + node.executable.getSimpleName() + "()" :
+                node.owner.getQualifiedName().toString();
+    }
+
+    private ExecutableElement findConstructor(TypeElement type) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        if (constructors.size() == 1) {
+            return constructors.get(0);
+        }
+
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getAnnotation(Autowired.class) != null) {
+                return constructor;
+            }
+        }
+
+        return constructors.stream()
+                .max(Comparator.comparingInt(constructor -> constructor.getParameters().size()))
+                .orElseThrow();
+    }
+
+    private static boolean isLazy(Element element) {
+        Lazy lazy = element.getAnnotation(Lazy.class);
+        return lazy != null && lazy.value();
+    }
+
+    private void generate(String wiringClass) {
+        List<BeanNode> nodes = new ArrayList<>(beans.values());
+        for (BeanNode component : components.values()) {
+            BeanNode bean = beans.get(component.typeName);
+            if (bean != null) {
+                error("Bean " + describe(bean) + " has the same type as component " + component.typeName +
+                        "; generated wiring supports one bean per type", bean.executable);
+            } else {
+                nodes.add(component);
+            }
+        }
+        if (invalid) {
+            return;
+        }
+
+        String wiringPackage = wiringClass.contains(".") ? wiringClass.substring(0, wiringClass.lastIndexOf('.')) : "";
+        boolean valid = true;
+        for (BeanNode node : nodes) {
+            valid &= resolveDependencies(node, nodes);
+            valid &= checkAccess(node, wiringPackage);
+        }
+
+        List<BeanNode> order = valid ? sort(nodes) : null;
+        if (order == null) {
+            return;
+        }
+
+        writeSource(wiringClass, wiringPackage, order);
+        writeServiceFile(wiringClass);
+    }
+
+    private boolean resolveDependencies(BeanNode node, List<BeanNode> nodes) {
+        List<? extends VariableElement> parameters = node.executable.getParameters();
+        node.dependencies = new BeanNode[parameters.size()];
+
+        for (int i = 0; i < parameters.size(); i++) {
+            TypeMirror parameterType = erasure(parameters.get(i).asType());
+            String parameterTypeName = parameterType.toString();
+
+            List<BeanNode> candidates = nodes.stream()
+                    .filter(candidate -> candidate.typeName.equals(parameterTypeName))
+                    .toList();
+            if (candidates.isEmpty()) {
+                candidates = nodes.stream()
+                        .filter(candidate -> processingEnv.getTypeUtils().isSubtype(candidate.type, parameterType))
+                        .toList();
+            }
+
+            if (candidates.size() > 1) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("Ambiguous dependency: %d beans of type %s found: %s",
+                                candidates.size(), parameterTypeName,
+                                candidates.stream().map(candidate -> candidate.typeName).collect(Collectors.joining(", "))),
+                        parameters.get(i));
+                return false;
+            }
+
+            if (candidates.isEmpty() && node.required) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "No component found for required dependency type " + parameterTypeName, parameters.get(i));
+                return false;
+            } else if (candidates.isEmpty()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "No component found for optional dependency type " + parameterTypeName, parameters.get(i));
+            } else {
+                node.dependencies[i] = candidates.get(0);
+            }
+        }
+
+        return true;
+    }
+
+    private boolean checkAccess(BeanNode node, String wiringPackage) {
+        List<Element> elements = new ArrayList<>();
+        elements.add(node.executable);
+        if (node.isFactoryMethod() && !node.executable.getModifiers().contains(Modifier.STATIC)) {
+            Optional<ExecutableElement> constructor = ElementFilter.constructorsIn(node.owner.getEnclosedElements()).stream()
+                    .filter(candidate -> candidate.getParameters().isEmpty())
+                    .findFirst();
+            if (constructor.isEmpty()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Generated wiring needs a no-argument constructor in " + node.owner.getQualifiedName(), node.owner);
+                return false;
+            }
+            elements.add(constructor.get());
+        }
+        for (VariableElement parameter : node.executable.getParameters()) {
+            Element parameterElement = elementOf(parameter.asType());
+            if (parameterElement != null) {
+                elements.add(parameterElement);
+            }
+        }
+        Element beanElement = elementOf(node.type);
+        if (beanElement != null) {
+            elements.add(beanElement);
+        }
+
+        for (Element element : elements) {
+            if (!isAccessible(element, wiringPackage)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Generated wiring cannot access " + element + "; make it public or move it to package " +
+                                wiringPackage, element);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Element elementOf(TypeMirror type) {
+        TypeMirror erased = erasure(type);
+        while (erased.getKind() == TypeKind.ARRAY) {
+            erased = ((ArrayType) erased).getComponentType();
+        }
+        return erased.getKind() == TypeKind.DECLARED ? ((DeclaredType) erased).asElement() : null;
+    }
+
+    private boolean isAccessible(Element element, String wiringPackage) {
+        String elementPackage = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+        for (Element current = element; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !elementPackage.equals(wiringPackage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<BeanNode> sort(List<BeanNode> nodes) {
+        Map<BeanNode, Integer> inDegree = new HashMap<>();
+        Map<BeanNode, List<BeanNode>> dependents = new HashMap<>();
+        for (BeanNode node : nodes) {
+            inDegree.putIfAbsent(node, 0);
+            for (BeanNode dependency : new LinkedHashSet<>(Arrays.asList(node.dependencies))) {
+                if (dependency != null) {
+                    inDegree.merge(node, 1, Integer::sum);
+                    dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(node);
+                }
+            }
+        }
+
+        Deque<BeanNode> queue = new ArrayDeque<>();
+        for (BeanNode node : nodes) {
+            if (inDegree.get(node) == 0) {
+                queue.add(node);
+            }
+        }
+
+        List<BeanNode> order = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            BeanNode current = queue.poll();
+            current.id = order.size();
+            order.add(current);
+
+            for (BeanNode dependent : dependents.getOrDefault(current, List.of())) {
+                if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                    queue.add(dependent);
+                }
+            }
+        }
+
+        if (order.size() != nodes.size()) {
+            String cycle = nodes.stream()
+                    .filter(node -> !order.contains(node))
+                    .map(node -> node.typeName)
+                    .collect(Collectors.joining(", "));
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot generate wiring: cyclic dependencies detected between " + cycle);
+            return null;
+        }
+
+        return order;
+    }
+
+    private void writeSource(String wiringClass, String wiringPackage, List<BeanNode> order) {
+        String simpleName = wiringClass.substring(wiringClass.lastIndexOf('.') + 1);
+
+        Map<TypeElement, String> configurations = new LinkedHashMap<>();
+        for (BeanNode node : order) {
+            if (node.isFactoryMethod() && !node.executable.getModifiers().contains(Modifier.STATIC)) {
+                configurations.computeIfAbsent(node.owner, owner -> "configuration" + configurations.size());
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!wiringPackage.isEmpty()) {
+            source.append("package ").append(wiringPackage).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(WiringProcessor.class.getName()).append("\")\n");
+        source.append("public final class ").append(simpleName)
+                .append(" implements ").append(ContainerWiring.class.getName()).append(" {\n\n");
+        source.append("    @Override\n");
+        source.append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        source.append("    public dev.hanginggoose.nestdi.framework.core.DIContainer createContainer() {\n");
+
+        configurations.forEach((owner, variable) -> source.append("        ")
+                .append(erasure(owner.asType())).append(' ').append(variable)
+                .append(" = new ").append(erasure(owner.asType())).append("();\n"));
+
+        source.append("        return new dev.hanginggoose.nestdi.framework.core.WiringBuilder()\n");
+        for (BeanNode node : order) {
+            source.append("                ");
+            if (node.isFactoryMethod()) {
+                source.append(".bean(\"").append(escape(node.beanName)).append("\", ");
+            } else {
+                source.append(".component(");
+            }
+            source.append(node.typeName).append(".class, ")
+                    .append(parameterTypes(node)).append(", ")
+                    .append(dependencyIds(node)).append(", ");
+            if (!node.isFactoryMethod()) {
+                source.append(node.required).append(", ");
+            }
+            source.append(node.lazy).append(",\n");
+            source.append("                        arguments -> ").append(invocation(node, configurations)).append(")\n");
+        }
+        source.append("                .build();\n");
+        source.append("    }\n");
+        source.append("}\n");
+
+        try {
+            JavaFileObject file = processingEnv.getFiler()
+                    .createSourceFile(wiringClass, originatingTypes.toArray(new Element[0]));
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write generated wiring " + wiringClass + ": " + e.getMessage());
+        }
+    }
+
+    private String parameterTypes(BeanNode node) {
+        return node.executable.getParameters().stream()
+                .map(parameter -> erasure(parameter.asType()) + ".class")
+                .collect(Collectors.joining(", ", "new Class<?>[]{", "}"));
+    }
+
+    private static String dependencyIds(BeanNode node) {
+        return Arrays.stream(node.dependencies)
+                .map(dependency -> String.valueOf(dependency != null ? dependency.id : -1))
+                .collect(Collectors.joining(", ", "new int[]{", "}"));
+    }
+
+    private String invocation(BeanNode node, Map<TypeElement, String> configurations) {
+        List<? extends VariableElement> parameters = node.executable.getParameters();
+        StringJoiner arguments = new StringJoiner(", ", "(", ")");
+        for (int i = 0; i < parameters.size(); i++) {
+            arguments.add("(" + erasure(parameters.get(i).asType()) + ") arguments[" + i + "]");
+        }
+
+        if (!node.isFactoryMethod()) {
+            return "new " + node.typeName + arguments;
+        }
+
+        String target = node.executable.getModifiers().contains(Modifier.STATIC)
+                ? erasure(node.owner.asType()).toString()
+                : configurations.get(node.owner);
+        return target + "." + node.executable.getSimpleName() + arguments;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private void writeServiceFile(String wiringClass) {
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    "META-INF/services/" + ContainerWiring.class.getName(), originatingTypes.toArray(new Element[0]));
+            try (Writer writer = resource.openWriter()) {
+                writer.write(wiringClass);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to register generated wiring " + wiringClass + ": " + e.getMessage());
+        }
+    }
+
+    private TypeMirror erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type);
+    }
+
+    private static class BeanNode {
+        private final TypeMirror type;
+        private final String typeName;
+        private final ExecutableElement executable;
+        private final TypeElement owner;
+        private final String beanName;
+        private final boolean lazy;
+        private final boolean required;
+        private BeanNode[] dependencies;
+        private int id;
+
+        private BeanNode(TypeMirror type, ExecutableElement executable, TypeElement owner, String beanName,
+                         boolean lazy, boolean required) {
+            this.type = type;
+            this.typeName = type.toString();
+            this.executable = executable;
+            this.owner = owner;
+            this.beanName = beanName;
+            this.lazy = lazy;
+            this.required = required;
+        }
+
+        private boolean isFactoryMethod() {
+            return beanName != null;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package dev.hanginggoose.nestdi.framework.scanning;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+class ClassMetadata {
+    private final String className;
+    private final String superclassName;
+    private final List<String> interfaceNames;
+    private final boolean concrete;
+    private final boolean annotation;
+    private final List<String> annotations;
+    private final List<String> beanMethods;
+
+    ClassMetadata(String className, String superclassName, List<String> interfaceNames, boolean concrete,
+                  boolean annotation, List<String> annotations, List<String> beanMethods) {
+        this.className = className;
+        this.superclassName = superclassName;
+        this.interfaceNames = interfaceNames;
+        this.concrete = concrete;
+        this.annotation = annotation;
+        this.annotations = annotations;
+        this.beanMethods = beanMethods;
+    }
+
+    String getClassName() {
+        return className;
+    }
+
+    String getSuperclassName() {
+        return superclassName;
+    }
+
+    List<String> getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    boolean isConcrete() {
+        return concrete;
+    }
+
+    boolean isAnnotation() {
+        return annotation;
+    }
+
+    List<String> getAnnotations() {
+        return annotations;
+    }
+
+    List<String> getBeanMethods() {
+        return beanMethods;
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeUTF(className);
+        out.writeUTF(superclassName != null ? superclassName : "");
+        writeStrings(out, interfaceNames);
+        out.writeBoolean(concrete);
+        out.writeBoolean(annotation);
+        writeStrings(out, annotations);
+        writeStrings(out, beanMethods);
+    }
+
+    static ClassMetadata read(DataInput in) throws IOException {
+        String className = in.readUTF();
+        String superclassName = in.readUTF();
+        List<String> interfaceNames = readStrings(in);
+        boolean concrete = in.readBoolean();
+        boolean annotation = in.readBoolean();
+        return new ClassMetadata(className, superclassName.isEmpty() ? null : superclassName,
+                interfaceNames, concrete, annotation, readStrings(in), readStrings(in));
+    }
+
+    private static void writeStrings(DataOutput out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static List<String> readStrings(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(in.readUTF());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,414 @@
+package dev.hanginggoose.nestdi.framework.scanning;
+
+import dev.hanginggoose.nestdi.framework.annotations.*;
+import dev.hanginggoose.nestdi.framework.core.BeanInfo;
+import javassist.bytecode.AccessFlag;
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.ClassFile;
+import javassist.bytecode.MethodInfo;
+import javassist.bytecode.annotation.Annotation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+public class ClassPathScanner {
+    private static final Logger logger = LoggerFactory.getLogger(ClassPathScanner.class);
+
+    private static final Set<String> STEREOTYPES = Set.of(
+            Component.class.getName(),
+            Service.class.getName(),
+            Repository.class.getName(),
+            Controller.class.getName(),
+            Configuration.class.getName()
+    );
+
+    public static final String CACHE_DIRECTORY_PROPERTY = "nestdi.scan.cache.dir";
+
+    private final ClassLoader classLoader;
+    private final ScanCache scanCache;
+    private final Map<String, ScanResult> cache = new ConcurrentHashMap<>();
+
+    public ClassPathScanner() {
+        this(defaultClassLoader());
+    }
+
+    public ClassPathScanner(ClassLoader classLoader) {
+        this(classLoader, defaultCacheDirectory());
+    }
+
+    public ClassPathScanner(ClassLoader classLoader, Path cacheDirectory) {
+        this.classLoader = classLoader;
+        this.scanCache = cacheDirectory != null ? new ScanCache(cacheDirectory) : null;
+    }
+
+    public ScanResult scan(String basePackage) {
+        ScanResult cached = cache.get(basePackage);
+        if (cached != null) {
+            logger.debug("Returning cached scan result for package: {}", basePackage);
+            return cached;
+        }
+
+        ComponentIndex index = ComponentIndex.load(classLoader);
+        ScanResult result = null;
+        if (index != null && index.covers(basePackage)) {
+            logger.debug("Reading package {} from component index", basePackage);
+            result = scanIndex(index, basePackage);
+        }
+        if (result == null) {
+            result = scanClassFiles(basePackage);
+        }
+
+        logger.debug("Scanned package {}: {}", basePackage, result);
+        cache.put(basePackage, result);
+        return result;
+    }
+
+    public void clearCache() {
+        cache.clear();
+    }
+
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    private ScanResult scanIndex(ComponentIndex index, String basePackage) {
+        Set<Class<?>> components = index.getComponents(basePackage);
+        Set<Class<?>> configurations = index.getConfigurations(basePackage);
+        if (components == null || configurations == null) {
+            return null;
+        }
+
+        Map<Class<?>, List<BeanInfo>> beanMethods = new HashMap<>();
+
+        for (Class<?> configuration : configurations) {
+            List<BeanInfo> beanInfos = index.getBeanMethods(configuration).stream()
+                    .map(ClassPathScanner::createBeanInfo)
+                    .toList();
+            if (!beanInfos.isEmpty()) {
+                beanMethods.put(configuration, beanInfos);
+            }
+        }
+
+        return new ScanResult(components, configurations, beanMethods);
+    }
+
+    private ScanResult scanClassFiles(String basePackage) {
+        Map<String, ClassMetadata> metadata = readPackage(basePackage).stream()
+                .collect(Collectors.toMap(ClassMetadata::getClassName, m -> m, (first, second) -> first));
+
+        TypeHierarchy hierarchy = new TypeHierarchy(classLoader, STEREOTYPES, metadata);
+
+        Set<Class<?>> components = new HashSet<>();
+        Set<Class<?>> configurations = new HashSet<>();
+        Map<Class<?>, List<BeanInfo>> beanMethods = new HashMap<>();
+
+        for (ClassMetadata classMetadata : metadata.values()) {
+            if (!classMetadata.isConcrete()) {
+                continue;
+            }
+
+            boolean component = hierarchy.anyMatch(classMetadata,
+                    m -> m.getAnnotations().stream().anyMatch(hierarchy::isStereotype));
+            if (!component) {
+                continue;
+            }
+
+            Class<?> componentClass = loadClass(classMetadata.getClassName());
+            if (componentClass == null) {
+                continue;
+            }
+            components.add(componentClass);
+
+            boolean configuration = hierarchy.anyMatch(classMetadata,
+                    m -> m.getAnnotations().contains(Configuration.class.getName()));
+            if (configuration) {
+                configurations.add(componentClass);
+
+                List<BeanInfo> beanInfos = resolveBeanMethods(componentClass, classMetadata.getBeanMethods());
+                if (!beanInfos.isEmpty()) {
+                    beanMethods.put(componentClass, beanInfos);
+                }
+            }
+        }
+
+        return new ScanResult(components, configurations, beanMethods);
+    }
+
+    private List<ClassMetadata> readPackage(String basePackage) {
+        String packagePath = basePackage.replace('.', '/');
+        List<ClassMetadata> metadata = new ArrayList<>();
+
+        try {
+            Enumeration<URL> resources = classLoader.getResources(packagePath);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                logger.debug("Reading class files from {}", resource);
+                switch (resource.getProtocol()) {
+                    case "file" -> metadata.addAll(readDirectory(toPath(resource)));
+                    case "jar" -> metadata.addAll(readJar(resource, packagePath));
+                    default -> logger.warn("Unsupported classpath resource {}, skipping", resource);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan package " + basePackage, e);
+        }
+
+        return metadata;
+    }
+
+    private List<ClassMetadata> readDirectory(Path directory) throws IOException {
+        List<Path> classFiles;
+        try (Stream<Path> files = Files.walk(directory)) {
+            classFiles = files.filter(ClassPathScanner::isClassFile).sorted().toList();
+        }
+
+        String key = "dir:" + directory.toAbsolutePath();
+        String fingerprint = null;
+        if (scanCache != null) {
+            fingerprint = fingerprintDirectory(directory, classFiles);
+
+            List<ClassMetadata> cached = scanCache.get(key, fingerprint);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        List<ClassMetadata> metadata = readClassFiles(classFiles.stream()
+                .<ClassFileSource>map(file -> () -> Files.readAllBytes(file))
+                .toList());
+
+        if (scanCache != null) {
+            scanCache.put(key, fingerprint, metadata);
+        }
+        return metadata;
+    }
+
+    private List<ClassMetadata> readJar(URL resource, String packagePath) throws IOException {
+        JarURLConnection connection = (JarURLConnection) resource.openConnection();
+        connection.setUseCaches(false);
+        Path jarPath = toPath(connection.getJarFileURL());
+
+        String key = "jar:" + jarPath.toAbsolutePath() + "!/" + packagePath;
+        String fingerprint = null;
+        if (scanCache != null) {
+            fingerprint = fingerprintJar(jarPath);
+
+            List<ClassMetadata> cached = scanCache.get(key, fingerprint);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        List<ClassMetadata> metadata;
+        try (JarFile jarFile = new JarFile(jarPath.toFile())) {
+            String prefix = packagePath + "/";
+            metadata = readClassFiles(jarFile.stream()
+                    .filter(entry -> entry.getName().startsWith(prefix) && isClassFile(entry.getName()))
+                    .<ClassFileSource>map(entry -> () -> {
+                        try (InputStream in = jarFile.getInputStream(entry)) {
+                            return in.readAllBytes();
+                        }
+                    })
+                    .toList());
+        }
+
+        if (scanCache != null) {
+            scanCache.put(key, fingerprint, metadata);
+        }
+        return metadata;
+    }
+
+    public String fingerprint(String basePackage) {
+        String packagePath = basePackage.replace('.', '/');
+        List<String> fingerprints = new ArrayList<>();
+
+        try {
+            Enumeration<URL> resources = classLoader.getResources(packagePath);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                switch (resource.getProtocol()) {
+                    case "file" -> {
+                        Path directory = toPath(resource);
+                        List<Path> classFiles;
+                        try (Stream<Path> files = Files.walk(directory)) {
+                            classFiles = files.filter(ClassPathScanner::isClassFile).sorted().toList();
+                        }
+                        fingerprints.add("dir:" + directory.toAbsolutePath() + "=" +
+                                fingerprintDirectory(directory, classFiles));
+                    }
+                    case "jar" -> {
+                        JarURLConnection connection = (JarURLConnection) resource.openConnection();
+                        connection.setUseCaches(false);
+                        Path jarPath = toPath(connection.getJarFileURL());
+                        fingerprints.add("jar:" + jarPath.toAbsolutePath() + "=" + fingerprintJar(jarPath));
+                    }
+                    default -> fingerprints.add(resource.toString());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to fingerprint package " + basePackage, e);
+        }
+
+        return String.join(";", fingerprints);
+    }
+
+    private static String fingerprintDirectory(Path directory, List<Path> classFiles) throws IOException {
+        CRC32 checksum = new CRC32();
+        for (Path classFile : classFiles) {
+            BasicFileAttributes attributes = Files.readAttributes(classFile, BasicFileAttributes.class);
+            checksum.update(directory.relativize(classFile).toString().getBytes(StandardCharsets.UTF_8));
+            checksum.update(longToBytes(attributes.size()));
+            checksum.update(longToBytes(attributes.lastModifiedTime().toMillis()));
+        }
+        return classFiles.size() + ":" + Long.toHexString(checksum.getValue());
+    }
+
+    private static String fingerprintJar(Path jarPath) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(jarPath, BasicFileAttributes.class);
+        return attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+    }
+
+    private static List<ClassMetadata> readClassFiles(List<ClassFileSource> sources) {
+        return sources.parallelStream()
+                .map(ClassPathScanner::readMetadata)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static byte[] longToBytes(long value) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+    }
+
+    private static Path toPath(URL resource) {
+        try {
+            return Paths.get(resource.toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid classpath resource: " + resource, e);
+        }
+    }
+
+    private static boolean isClassFile(Path path) {
+        return isClassFile(path.getFileName().toString());
+    }
+
+    private static boolean isClassFile(String name) {
+        return name.endsWith(".class") && !name.endsWith("module-info.class") && !name.endsWith("package-info.class");
+    }
+
+    static ClassMetadata readMetadata(ClassFileSource source) {
+        try {
+            return readMetadata(source.read());
+        } catch (IOException e) {
+            logger.warn("Failed to read class file: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    static ClassMetadata readMetadata(byte[] bytes) throws IOException {
+        ClassFile classFile = new ClassFile(new DataInputStream(new ByteArrayInputStream(bytes)));
+
+        int accessFlags = classFile.getAccessFlags();
+        boolean annotation = (accessFlags & AccessFlag.ANNOTATION) != 0;
+        boolean concrete = !classFile.isInterface() && !classFile.isAbstract();
+
+        List<String> beanMethods = new ArrayList<>();
+        for (MethodInfo method : classFile.getMethods()) {
+            if (annotationNames((AnnotationsAttribute) method.getAttribute(AnnotationsAttribute.visibleTag))
+                    .contains(Bean.class.getName())) {
+                beanMethods.add(method.getName() + method.getDescriptor());
+            }
+        }
+
+        return new ClassMetadata(
+                classFile.getName(),
+                classFile.getSuperclass(),
+                List.of(classFile.getInterfaces()),
+                concrete,
+                annotation,
+                annotationNames((AnnotationsAttribute) classFile.getAttribute(AnnotationsAttribute.visibleTag)),
+                beanMethods
+        );
+    }
+
+    private static List<String> annotationNames(AnnotationsAttribute attribute) {
+        if (attribute == null) {
+            return List.of();
+        }
+
+        List<String> names = new ArrayList<>();
+        for (Annotation annotation : attribute.getAnnotations()) {
+            names.add(annotation.getTypeName());
+        }
+        return names;
+    }
+
+    private List<BeanInfo> resolveBeanMethods(Class<?> configClass, List<String> descriptors) {
+        if (descriptors.isEmpty()) {
+            return List.of();
+        }
+
+        List<BeanInfo> beanInfos = new ArrayList<>();
+        for (Method method : configClass.getDeclaredMethods()) {
+            if (descriptors.contains(method.getName() + descriptorOf(method))) {
+                beanInfos.add(createBeanInfo(method));
+            }
+        }
+        return beanInfos;
+    }
+
+    private static String descriptorOf(Method method) {
+        return MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+    }
+
+    private Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            logger.warn("Component class {} could not be loaded: {}", className, e.getMessage());
+            return null;
+        }
+    }
+
+    static BeanInfo createBeanInfo(Method method) {
+        Bean annotation = method.getAnnotation(Bean.class);
+        String name = annotation.name().isEmpty() ? method.getName() : annotation.name();
+        return new BeanInfo(name, method.getReturnType(), method, null);
+    }
+
+    private static Path defaultCacheDirectory() {
+        String directory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+        return directory != null && !directory.isBlank() ? Paths.get(directory) : null;
+    }
+
+    static ClassLoader defaultClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ClassPathScanner.class.getClassLoader();
+    }
+
+    @FunctionalInterface
+    interface ClassFileSource {
+        byte[] read() throws IOException;
+    }
+}
@@ -0,0 +1,160 @@
+package dev.hanginggoose.nestdi.framework.scanning;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public class ComponentIndex {
+    public static final String INDEX_LOCATION = "META-INF/nest-di/components.index";
+    public static final String IGNORE_INDEX_PROPERTY = "nestdi.index.ignore";
+
+    private static final Logger logger = LoggerFactory.getLogger(ComponentIndex.class);
+    private static final ComponentIndex MISSING = new ComponentIndex(null);
+    private static final Map<ClassLoader, ComponentIndex> indexes = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final ClassLoader classLoader;
+    private final Set<String> components = new LinkedHashSet<>();
+    private final Set<String> configurations = new LinkedHashSet<>();
+    private final Map<String, Set<String>> beanMethods = new HashMap<>();
+    private final Set<String> roots = new HashSet<>();
+
+    private ComponentIndex(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    public static ComponentIndex load(ClassLoader classLoader) {
+        if (Boolean.getBoolean(IGNORE_INDEX_PROPERTY)) {
+            return null;
+        }
+
+        ComponentIndex index = indexes.computeIfAbsent(classLoader, ComponentIndex::read);
+        return index == MISSING ? null : index;
+    }
+
+    private static ComponentIndex read(ClassLoader classLoader) {
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+            if (!resources.hasMoreElements()) {
+                logger.debug("No component index found, falling back to classpath scanning");
+                return MISSING;
+            }
+
+            ComponentIndex index = new ComponentIndex(classLoader);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                logger.debug("Reading component index {}", resource);
+                index.read(resource);
+            }
+
+            logger.debug("Component index contains {} components and {} configuration classes",
+                    index.components.size(), index.configurations.size());
+            return index;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read component index " + INDEX_LOCATION, e);
+        }
+    }
+
+    private void read(URL resource) throws IOException {
+        roots.add(rootOf(resource, INDEX_LOCATION));
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] parts = line.split(" ");
+                switch (parts[0]) {
+                    case "component" -> components.add(parts[1]);
+                    case "configuration" -> configurations.add(parts[1]);
+                    case "bean" -> beanMethods.computeIfAbsent(parts[1], key -> new HashSet<>()).add(parts[2]);
+                    default -> logger.warn("Ignoring unknown entry in component index {}: {}", resource, line);
+                }
+            }
+        }
+    }
+
+    public boolean covers(String basePackage) {
+        String packagePath = basePackage.replace('.', '/');
+        try {
+            Enumeration<URL> resources = classLoader.getResources(packagePath);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                if (!roots.contains(rootOf(resource, packagePath))) {
+                    logger.debug("Package {} in {} is not covered by the component index", basePackage, resource);
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to locate package " + basePackage, e);
+        }
+    }
+
+    private static String rootOf(URL resource, String path) {
+        String location = resource.toString();
+        if (location.endsWith("/")) {
+            location = location.substring(0, location.length() - 1);
+        }
+        return location.endsWith(path) ? location.substring(0, location.length() - path.length()) : location;
+    }
+
+    public Set<Class<?>> getComponents(String basePackage) {
+        return loadClasses(components, basePackage);
+    }
+
+    public Set<Class<?>> getConfigurations(String basePackage) {
+        return loadClasses(configurations, basePackage);
+    }
+
+    public List<Method> getBeanMethods(Class<?> configClass) {
+        Set<String> signatures = beanMethods.getOrDefault(configClass.getName(), Set.of());
+        if (signatures.isEmpty()) {
+            return List.of();
+        }
+
+        List<Method> methods = new ArrayList<>();
+        for (Method method : configClass.getDeclaredMethods()) {
+            if (signatures.contains(signatureOf(method))) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private Set<Class<?>> loadClasses(Set<String> classNames, String basePackage) {
+        String prefix = basePackage + ".";
+        Set<Class<?>> classes = new HashSet<>();
+
+        for (String className : classNames) {
+            if (className.startsWith(prefix)) {
+                try {
+                    classes.add(Class.forName(className, false, classLoader));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    logger.warn("Indexed class {} could not be loaded, component index is stale: {}",
+                            className, e.getMessage());
+                    return null;
+                }
+            }
+        }
+
+        return classes;
+    }
+
+    public static String signatureOf(Method method) {
+        StringJoiner parameters = new StringJoiner(",", method.getName() + "(", ")");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            parameters.add(parameterType.getTypeName());
+        }
+        return parameters.toString();
+    }
+}
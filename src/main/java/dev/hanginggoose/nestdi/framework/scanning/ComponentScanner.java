@@ -1,50 +1,35 @@
 package dev.hanginggoose.nestdi.framework.scanning;
 
 import dev.hanginggoose.nestdi.framework.annotations.*;
-import org.reflections.Reflections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-
-import static java.lang.reflect.Modifier.isAbstract;
-import static org.reflections.scanners.Scanners.SubTypes;
-import static org.reflections.scanners.Scanners.TypesAnnotated;
 
 public class ComponentScanner {
 
     private static final Logger logger = LoggerFactory.getLogger(ComponentScanner.class);
-    private final Map<String, Set<Class<?>>> cache = new ConcurrentHashMap<>();
+    private final ClassPathScanner classPathScanner;
 
-    public Set<Class<?>> scan(String basePackage) {
-        logger.debug("Scanning for components in package {}", basePackage);
-
-        if (cache.containsKey(basePackage)) {
-            logger.debug("Returning cached components for package: {}", basePackage);
-            return cache.get(basePackage);
-        }
+    public ComponentScanner() {
+        this(new ClassPathScanner());
+    }
 
-        Reflections reflections = new Reflections(basePackage);
+    public ComponentScanner(ClassPathScanner classPathScanner) {
+        this.classPathScanner = classPathScanner;
+    }
 
-        Set<Class<?>> components = new HashSet<>();
-        components.addAll(reflections.get(SubTypes.of(TypesAnnotated.with(Component.class)).asClass()));
-        components.addAll(reflections.get(SubTypes.of(TypesAnnotated.with(Repository.class)).asClass()));
-        components.addAll(reflections.get(SubTypes.of(TypesAnnotated.with(Service.class)).asClass()));
-        components.addAll(reflections.get(SubTypes.of(TypesAnnotated.with(Controller.class)).asClass()));
-        components.addAll(reflections.get(SubTypes.of(TypesAnnotated.with(Configuration.class)).asClass()));
+    public Set<Class<?>> scan(String basePackage) {
+        logger.debug("Scanning for components in package {}", basePackage);
 
-        components.removeIf(clazz -> clazz.isInterface() || isAbstract(clazz.getModifiers()));
+        Set<Class<?>> components = new HashSet<>(classPathScanner.scan(basePackage).getComponents());
 
         logger.debug("Found {} components in package {}:", components.size(), basePackage);
         components.forEach(clazz ->
                 logger.debug("  - {} ({})", clazz.getName(), getComponentAnnotationType(clazz))
         );
 
-        cache.put(basePackage, components);
-
         return components;
     }
 
@@ -59,7 +44,7 @@ public class ComponentScanner {
     }
 
     public void clearCache() {
-        cache.clear();
+        classPathScanner.clearCache();
         logger.debug("Scanner cache cleared");
     }
 
@@ -71,4 +56,4 @@ public class ComponentScanner {
         if (clazz.isAnnotationPresent(Component.class)) return "@Component";
         return "Unknown";
     }
-}
\ No newline at end of file
+}
@@ -1,31 +1,30 @@
 package dev.hanginggoose.nestdi.framework.scanning;
 
 import dev.hanginggoose.nestdi.framework.annotations.Bean;
-import dev.hanginggoose.nestdi.framework.annotations.Configuration;
 import dev.hanginggoose.nestdi.framework.core.BeanInfo;
-import org.reflections.Reflections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Method;
 import java.util.*;
 
-import static java.lang.reflect.Modifier.isAbstract;
-import static org.reflections.scanners.Scanners.SubTypes;
-import static org.reflections.scanners.Scanners.TypesAnnotated;
-
 public class ConfigurationScanner {
 
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationScanner.class);
+    private final ClassPathScanner classPathScanner;
 
-    public Set<Class<?>> scanConfigurations(String basePackage) {
-        logger.debug("Scanning for configuration classes in package {}", basePackage);
+    public ConfigurationScanner() {
+        this(new ClassPathScanner());
+    }
 
-        Reflections reflections = new Reflections(basePackage);
+    public ConfigurationScanner(ClassPathScanner classPathScanner) {
+        this.classPathScanner = classPathScanner;
+    }
 
-        Set<Class<?>> configurations = new HashSet<>(reflections.get(SubTypes.of(TypesAnnotated.with(Configuration.class)).asClass()));
+    public Set<Class<?>> scanConfigurations(String basePackage) {
+        logger.debug("Scanning for configuration classes in package {}", basePackage);
 
-        configurations.removeIf(clazz -> clazz.isInterface() || isAbstract(clazz.getModifiers()));
+        Set<Class<?>> configurations = new HashSet<>(classPathScanner.scan(basePackage).getConfigurations());
 
         logger.debug("Found {} configuration classes in package {}:", configurations.size(), basePackage);
         configurations.forEach(clazz ->
@@ -42,15 +41,11 @@ public class ConfigurationScanner {
 
         for (Method method : configClass.getDeclaredMethods()) {
             if (method.isAnnotationPresent(Bean.class)) {
-                Bean annotation = method.getAnnotation(Bean.class);
-                String name = annotation.name().isEmpty() ? method.getName() : annotation.name();
-                Class<?> returnType = method.getReturnType();
-
-                BeanInfo beanInfo = new BeanInfo(name, returnType, method, null);
+                BeanInfo beanInfo = ClassPathScanner.createBeanInfo(method);
                 beanInfos.add(beanInfo);
 
                 logger.debug("  Found bean method: {} returning {} (name: {})",
-                        method.getName(), returnType.getSimpleName(), name);
+                        method.getName(), beanInfo.getBeanClass().getSimpleName(), beanInfo.getName());
             }
         }
 
@@ -58,16 +53,13 @@ public class ConfigurationScanner {
     }
 
     public Map<Class<?>, List<BeanInfo>> scanAllBeanMethods(String basePackage) {
-        Set<Class<?>> configurations = scanConfigurations(basePackage);
-        Map<Class<?>, List<BeanInfo>> allBeanMethods = new HashMap<>();
+        Map<Class<?>, List<BeanInfo>> allBeanMethods = new HashMap<>(classPathScanner.scan(basePackage).getBeanMethods());
 
-        for (Class<?> configuration : configurations) {
-            List<BeanInfo> beanInfos = scanBeanMethods(configuration);
-            if (!beanInfos.isEmpty()) {
-                allBeanMethods.put(configuration, beanInfos);
-            }
-        }
+        allBeanMethods.forEach((configuration, beanInfos) -> beanInfos.forEach(beanInfo ->
+                logger.debug("  Found bean method: {} returning {} (name: {})",
+                        beanInfo.getFactoryMethod().getName(), beanInfo.getBeanClass().getSimpleName(),
+                        beanInfo.getName())));
 
         return allBeanMethods;
     }
-}
\ No newline at end of file
+}
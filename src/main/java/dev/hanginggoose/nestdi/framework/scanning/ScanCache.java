@@ -0,0 +1,102 @@
+package dev.hanginggoose.nestdi.framework.scanning;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+class ScanCache {
+    private static final Logger logger = LoggerFactory.getLogger(ScanCache.class);
+    private static final int MAGIC = 0x4E455354;
+    private static final int VERSION = 2;
+
+    private final Path directory;
+
+    ScanCache(Path directory) {
+        this.directory = directory;
+    }
+
+    List<ClassMetadata> get(String key, String fingerprint) {
+        Path file = fileFor(key);
+        if (!Files.isRegularFile(file)) {
+            logger.debug("Scan cache miss for {}", key);
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION
+                    || !in.readUTF().equals(key) || !in.readUTF().equals(fingerprint)) {
+                logger.debug("Scan cache entry for {} is stale", key);
+                return null;
+            }
+
+            int size = in.readInt();
+            List<ClassMetadata> metadata = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                metadata.add(ClassMetadata.read(in));
+            }
+
+            logger.debug("Scan cache hit for {} ({} classes)", key, size);
+            return metadata;
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable scan cache entry {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    void put(String key, String fingerprint, List<ClassMetadata> metadata) {
+        Path file = fileFor(key);
+        Path temporaryFile = null;
+
+        try {
+            Files.createDirectories(directory);
+            temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(key);
+                out.writeUTF(fingerprint);
+                out.writeInt(metadata.size());
+                for (ClassMetadata classMetadata : metadata) {
+                    classMetadata.write(out);
+                }
+            }
+
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Stored {} classes for {} in scan cache", metadata.size(), key);
+        } catch (IOException e) {
+            logger.warn("Failed to write scan cache entry {}: {}", file, e.getMessage());
+            deleteQuietly(temporaryFile);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Failed to delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Path fileFor(String key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(hash, 0, 16) + ".scan");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dev.hanginggoose.nestdi.framework.scanning;
+
+import dev.hanginggoose.nestdi.framework.core.BeanInfo;
+
+import java.util.*;
+
+public class ScanResult {
+    private final Set<Class<?>> components;
+    private final Set<Class<?>> configurations;
+    private final Map<Class<?>, List<BeanInfo>> beanMethods;
+
+    public ScanResult(Set<Class<?>> components, Set<Class<?>> configurations,
+                      Map<Class<?>, List<BeanInfo>> beanMethods) {
+        this.components = Collections.unmodifiableSet(components);
+        this.configurations = Collections.unmodifiableSet(configurations);
+        this.beanMethods = Collections.unmodifiableMap(beanMethods);
+    }
+
+    public Set<Class<?>> getComponents() {
+        return components;
+    }
+
+    public Set<Class<?>> getConfigurations() {
+        return configurations;
+    }
+
+    public Map<Class<?>, List<BeanInfo>> getBeanMethods() {
+        return beanMethods;
+    }
+
+    public static ScanResult merge(Collection<ScanResult> scanResults) {
+        Set<Class<?>> components = new HashSet<>();
+        Set<Class<?>> configurations = new HashSet<>();
+        Map<Class<?>, List<BeanInfo>> beanMethods = new HashMap<>();
+
+        for (ScanResult scanResult : scanResults) {
+            components.addAll(scanResult.getComponents());
+            configurations.addAll(scanResult.getConfigurations());
+            beanMethods.putAll(scanResult.getBeanMethods());
+        }
+
+        return new ScanResult(components, configurations, beanMethods);
+    }
+
+    @Override
+    public String toString() {
+        return "ScanResult{" +
+                "components=" + components.size() +
+                ", configurations=" + configurations.size() +
+                ", beanMethods=" + beanMethods.values().stream().mapToInt(List::size).sum() +
+                '}';
+    }
+}
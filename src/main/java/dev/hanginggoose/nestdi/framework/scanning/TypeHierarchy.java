@@ -0,0 +1,106 @@
+package dev.hanginggoose.nestdi.framework.scanning;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Predicate;
+
+class TypeHierarchy {
+    private static final Logger logger = LoggerFactory.getLogger(TypeHierarchy.class);
+
+    private final ClassLoader classLoader;
+    private final Set<String> rootStereotypes;
+    private final Map<String, ClassMetadata> types;
+    private final Set<String> missing = new HashSet<>();
+    private final Map<String, Boolean> stereotypes = new HashMap<>();
+
+    TypeHierarchy(ClassLoader classLoader, Set<String> rootStereotypes, Map<String, ClassMetadata> scanned) {
+        this.classLoader = classLoader;
+        this.rootStereotypes = rootStereotypes;
+        this.types = new HashMap<>(scanned);
+    }
+
+    boolean isStereotype(String annotationName) {
+        if (rootStereotypes.contains(annotationName)) {
+            return true;
+        }
+
+        Boolean known = stereotypes.get(annotationName);
+        if (known != null) {
+            return known;
+        }
+
+        stereotypes.put(annotationName, false);
+        ClassMetadata metadata = get(annotationName);
+        boolean stereotype = metadata != null && metadata.isAnnotation()
+                && metadata.getAnnotations().stream().anyMatch(this::isStereotype);
+        stereotypes.put(annotationName, stereotype);
+        return stereotype;
+    }
+
+    boolean anyMatch(ClassMetadata classMetadata, Predicate<ClassMetadata> predicate) {
+        Deque<ClassMetadata> pending = new ArrayDeque<>();
+        Set<String> visited = new HashSet<>();
+        pending.push(classMetadata);
+
+        while (!pending.isEmpty()) {
+            ClassMetadata current = pending.pop();
+            if (!visited.add(current.getClassName())) {
+                continue;
+            }
+            if (predicate.test(current)) {
+                return true;
+            }
+
+            pushSupertype(pending, current.getSuperclassName());
+            for (String interfaceName : current.getInterfaceNames()) {
+                pushSupertype(pending, interfaceName);
+            }
+        }
+        return false;
+    }
+
+    private void pushSupertype(Deque<ClassMetadata> pending, String className) {
+        ClassMetadata supertype = get(className);
+        if (supertype != null) {
+            pending.push(supertype);
+        }
+    }
+
+    private ClassMetadata get(String className) {
+        if (className == null || isPlatformType(className) || missing.contains(className)) {
+            return null;
+        }
+
+        ClassMetadata metadata = types.get(className);
+        if (metadata == null) {
+            metadata = read(className);
+            if (metadata == null) {
+                missing.add(className);
+            } else {
+                types.put(className, metadata);
+            }
+        }
+        return metadata;
+    }
+
+    private ClassMetadata read(String className) {
+        try (InputStream in = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (in == null) {
+                logger.debug("Type {} is not on the classpath, skipping", className);
+                return null;
+            }
+            return ClassPathScanner.readMetadata(in.readAllBytes());
+        } catch (IOException e) {
+            logger.warn("Failed to read class file of {}: {}", className, e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean isPlatformType(String className) {
+        return className.startsWith("java.") || className.startsWith("javax.") || className.startsWith("jdk.");
+    }
+}
@@ -0,0 +1,83 @@
+package dev.hanginggoose.nestdi.framework.test.core;
+
+import dev.hanginggoose.nestdi.framework.core.ContainerSnapshot;
+import dev.hanginggoose.nestdi.framework.core.DIContainer;
+import dev.hanginggoose.nestdi.framework.core.DIContainerFactory;
+import dev.hanginggoose.nestdi.framework.scanning.ClassPathScanner;
+import dev.hanginggoose.nestdi.framework.test.core.fixtures.app.GreetingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DIContainerFactoryTest {
+
+    private static final String[] PACKAGES = {
+            "dev.hanginggoose.nestdi.framework.test.core.fixtures.app",
+            "dev.hanginggoose.nestdi.framework.test.core.fixtures.data"
+    };
+
+    @Test
+    public void testCreateFromPackages() {
+        DIContainer container = DIContainerFactory.create(PACKAGES);
+        container.start();
+
+        assertEquals("Hello KDG from Nest DI", container.getBean(GreetingService.class).greet("KDG"));
+        assertEquals("Nest DI", container.getBean("appName"));
+    }
+
+    @Test
+    public void testCreateParallelMatchesSequential() {
+        DIContainer sequential = DIContainerFactory.create(PACKAGES);
+        sequential.start();
+
+        DIContainer parallel = DIContainerFactory.createParallel(PACKAGES);
+        parallel.start();
+
+        assertEquals(sequential.getAllBeans().keySet(), parallel.getAllBeans().keySet());
+        assertEquals("Hello KDG from Nest DI", parallel.getBean(GreetingService.class).greet("KDG"));
+    }
+
+    @Test
+    public void testBootFromSnapshot(@TempDir Path directory) throws Exception {
+        Path snapshotFile = directory.resolve("container.snapshot");
+
+        DIContainer first = DIContainerFactory.createFromSnapshot(snapshotFile, PACKAGES);
+        first.start();
+        assertTrue(Files.isRegularFile(snapshotFile));
+
+        ContainerSnapshot snapshot = ContainerSnapshot.read(snapshotFile);
+        assertNotNull(snapshot);
+        assertEquals(Set.of(PACKAGES), snapshot.getPackages());
+        assertEquals(first.getAllBeans().size(), snapshot.getBeanCount());
+        assertTrue(snapshot.isValid(new ClassPathScanner()));
+
+        FileTime written = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(snapshotFile, written);
+
+        DIContainer restored = DIContainerFactory.createFromSnapshot(snapshotFile, PACKAGES);
+        restored.start();
+
+        assertEquals(written, Files.getLastModifiedTime(snapshotFile));
+        assertEquals(first.getAllBeans().keySet(), restored.getAllBeans().keySet());
+        assertEquals("Hello KDG from Nest DI", restored.getBean(GreetingService.class).greet("KDG"));
+        assertEquals("Nest DI", restored.getBean("appName"));
+    }
+
+    @Test
+    public void testSnapshotForOtherPackagesIsRebuilt(@TempDir Path directory) {
+        Path snapshotFile = directory.resolve("container.snapshot");
+        DIContainerFactory.createFromSnapshot(snapshotFile, new String[]{PACKAGES[1]});
+
+        DIContainer container = DIContainerFactory.createFromSnapshot(snapshotFile, PACKAGES);
+        container.start();
+
+        assertEquals(Set.of(PACKAGES), ContainerSnapshot.read(snapshotFile).getPackages());
+        assertEquals("Hello KDG from Nest DI", container.getBean(GreetingService.class).greet("KDG"));
+    }
+}
@@ -1,16 +1,27 @@
 package dev.hanginggoose.nestdi.framework.test.core;
 
 import dev.hanginggoose.nestdi.framework.annotations.Autowired;
+import dev.hanginggoose.nestdi.framework.annotations.Cached;
 import dev.hanginggoose.nestdi.framework.annotations.Component;
+import dev.hanginggoose.nestdi.framework.annotations.Lazy;
 import dev.hanginggoose.nestdi.framework.core.DIContainer;
+import dev.hanginggoose.nestdi.framework.core.InstantiationStrategy;
+import dev.hanginggoose.nestdi.framework.graph.CyclicDependencyException;
 import dev.hanginggoose.nestdi.framework.graph.DependencyGraph;
 import dev.hanginggoose.nestdi.framework.graph.DependencyGraphBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -90,6 +101,15 @@ public class DiContainerTest {
         assertSame(testComponent, testComponent2);
     }
 
+    @Test
+    public void testCreationTimesAreRecorded() {
+        container.start();
+
+        assertEquals(Set.of(TestComponent.class, DependentComponent.class, MoreDependentComponent.class),
+                container.getCreationTimes().keySet());
+        assertTrue(container.getCreationTimes().values().stream().noneMatch(Duration::isNegative));
+    }
+
     @Test
     public void testDependencyInjection() {
         container.start();
@@ -135,4 +155,375 @@ public class DiContainerTest {
         assertNotNull(optionalComponent);
         assertEquals("default", optionalComponent.getValue());
     }
-}
\ No newline at end of file
+
+    @Component
+    public static class PluginComponent {
+        private final DependentComponent dependentComponent;
+
+        public PluginComponent(DependentComponent dependentComponent) {
+            this.dependentComponent = dependentComponent;
+        }
+    }
+
+    @Component
+    public static class PluginHost {
+        private final Greeter greeter;
+
+        @Autowired(required = false)
+        public PluginHost(Greeter greeter) {
+            this.greeter = greeter;
+        }
+    }
+
+    @Component
+    public static class PlainGreeter implements Greeter {
+        public String greet() {
+            return "Hello";
+        }
+    }
+
+    @Test
+    public void testRegisterAndUnregisterRefreshOnlyAffectedBeans() {
+        Set<Class<?>> components = Set.of(TestComponent.class, DependentComponent.class, PluginHost.class);
+        DependencyGraph graph = new DependencyGraphBuilder().build(components, new ArrayList<>());
+        DIContainer testContainer = new DIContainer(graph, null);
+        testContainer.start();
+
+        TestComponent testComponent = testContainer.getBean(TestComponent.class);
+        DependentComponent dependentComponent = testContainer.getBean(DependentComponent.class);
+        PluginHost host = testContainer.getBean(PluginHost.class);
+        assertNull(host.greeter);
+
+        testContainer.register(Set.of(PluginComponent.class, PlainGreeter.class), List.of());
+
+        assertSame(dependentComponent, testContainer.getBean(PluginComponent.class).dependentComponent);
+        assertSame(testComponent, testContainer.getBean(TestComponent.class));
+        assertTrue(testContainer.getAllBeans().containsKey(PlainGreeter.class));
+        PluginHost refreshedHost = testContainer.getBean(PluginHost.class);
+        assertNotSame(host, refreshedHost);
+        assertEquals("Hello", refreshedHost.greeter.greet());
+
+        testContainer.unregister(Set.of(PlainGreeter.class, PluginComponent.class));
+
+        assertFalse(testContainer.getAllBeans().containsKey(PluginComponent.class));
+        assertFalse(testContainer.getAllBeans().containsKey(PlainGreeter.class));
+        assertNull(testContainer.getBean(PluginHost.class).greeter);
+        assertSame(dependentComponent, testContainer.getBean(DependentComponent.class));
+        assertEquals(3, testContainer.getAllBeans().size());
+    }
+
+    @Component
+    public static class BrokenGreeter implements Greeter {
+        public BrokenGreeter() {
+            throw new IllegalStateException("greeter unavailable");
+        }
+
+        public String greet() {
+            return "Broken";
+        }
+    }
+
+    @Component
+    public static class GreetingCache {
+        private final Greeter greeter;
+
+        @Autowired(required = false)
+        public GreetingCache(Greeter greeter) {
+            this.greeter = greeter;
+        }
+
+        @Cached
+        public String greeting() {
+            return greeter != null ? greeter.greet() : "nobody";
+        }
+    }
+
+    @Test
+    public void testRefreshDropsCachesOfRecreatedBeans() {
+        DependencyGraph graph = new DependencyGraphBuilder().build(Set.of(GreetingCache.class), new ArrayList<>());
+        DIContainer testContainer = new DIContainer(graph, null);
+        testContainer.start();
+        assertEquals("nobody", testContainer.getBean(GreetingCache.class).greeting());
+
+        testContainer.register(Set.of(PlainGreeter.class), List.of());
+
+        assertEquals("Hello", testContainer.getBean(GreetingCache.class).greeting());
+    }
+
+    public static class CorruptGreeter implements Greeter {
+        public CorruptGreeter() {
+            throw new AssertionError("greeter corrupt");
+        }
+
+        public String greet() {
+            return "Corrupt";
+        }
+    }
+
+    @Test
+    public void testFailedRefreshRestoresPreviousState() {
+        Set<Class<?>> components = Set.of(TestComponent.class, DependentComponent.class, PluginHost.class);
+        DependencyGraph graph = new DependencyGraphBuilder().build(components, new ArrayList<>());
+        DIContainer testContainer = new DIContainer(graph, null);
+        testContainer.start();
+        PluginHost host = testContainer.getBean(PluginHost.class);
+
+        assertThrows(RuntimeException.class, () -> testContainer.register(Set.of(BrokenGreeter.class), List.of()));
+
+        assertSame(host, testContainer.getBean(PluginHost.class));
+        assertFalse(graph.containsComponent(BrokenGreeter.class));
+        assertFalse(testContainer.getAllBeans().containsKey(BrokenGreeter.class));
+        assertEquals(3, testContainer.getAllBeans().size());
+
+        AssertionError error = assertThrows(AssertionError.class,
+                () -> testContainer.register(Set.of(CorruptGreeter.class), List.of()));
+        assertEquals("greeter corrupt", error.getMessage());
+        assertFalse(graph.containsComponent(CorruptGreeter.class));
+
+        testContainer.register(Set.of(PlainGreeter.class), List.of());
+        assertEquals("Hello", testContainer.getBean(PluginHost.class).greeter.greet());
+    }
+
+    @Test
+    public void testParallelStart() {
+        assertDoesNotThrow(() -> container.startParallel());
+        assertEquals(3, container.getAllBeans().size());
+
+        MoreDependentComponent moreDependentComponent = container.getBean(MoreDependentComponent.class);
+        assertEquals("MoreDependent: Dependent: Hello from TestComponent", moreDependentComponent.getFullMessage());
+        assertSame(container.getBean(TestComponent.class), container.getBean(TestComponent.class));
+    }
+
+    @Component
+    static class FailingComponent {
+        public FailingComponent(TestComponent testComponent) {
+            throw new IllegalArgumentException("pool unavailable");
+        }
+    }
+
+    @Component
+    static class FailingDependentComponent {
+        public FailingDependentComponent(FailingComponent failingComponent) {
+        }
+    }
+
+    @Test
+    public void testParallelStartReportsFailedBeans() {
+        Set<Class<?>> components = Set.of(TestComponent.class, FailingComponent.class, FailingDependentComponent.class);
+
+        DependencyGraphBuilder builder = new DependencyGraphBuilder();
+        DIContainer failingContainer = new DIContainer(builder.build(components, new ArrayList<>()), null);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, failingContainer::startParallel);
+        assertTrue(exception.getMessage().contains(FailingComponent.class.getName()));
+        assertFalse(exception.getMessage().contains(FailingDependentComponent.class.getName()));
+        assertNotNull(failingContainer.getAllBeans().get(TestComponent.class));
+    }
+
+    @Test
+    public void testReflectiveInstantiationStrategy() {
+        Set<Class<?>> components = Set.of(TestComponent.class, DependentComponent.class, MoreDependentComponent.class);
+
+        DependencyGraphBuilder builder = new DependencyGraphBuilder();
+        DIContainer reflectiveContainer = new DIContainer(builder.build(components, new ArrayList<>()), null,
+                InstantiationStrategy.REFLECTIVE);
+        reflectiveContainer.start();
+
+        MoreDependentComponent moreDependentComponent = reflectiveContainer.getBean(MoreDependentComponent.class);
+        assertEquals("MoreDependent: Dependent: Hello from TestComponent", moreDependentComponent.getFullMessage());
+    }
+
+    @Test
+    public void testConstructorExceptionIsReportedAsCause() {
+        Set<Class<?>> components = Set.of(TestComponent.class, FailingComponent.class);
+
+        DependencyGraphBuilder builder = new DependencyGraphBuilder();
+        DIContainer failingContainer = new DIContainer(builder.build(components, new ArrayList<>()), null);
+
+        RuntimeException exception = assertThrows(RuntimeException.class, failingContainer::start);
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals("pool unavailable", exception.getCause().getMessage());
+    }
+
+    @Component
+    static class CountingComponent {
+        static final AtomicInteger constructions = new AtomicInteger();
+
+        public CountingComponent(TestComponent testComponent) throws InterruptedException {
+            constructions.incrementAndGet();
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    public void testConcurrentFirstRequestsCreateBeanOnce() throws Exception {
+        CountingComponent.constructions.set(0);
+        Set<Class<?>> components = Set.of(TestComponent.class, CountingComponent.class);
+
+        DependencyGraphBuilder builder = new DependencyGraphBuilder();
+        DIContainer concurrentContainer = new DIContainer(builder.build(components, new ArrayList<>()), null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            var futures = new ArrayList<Future<CountingComponent>>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> concurrentContainer.getBean(CountingComponent.class)));
+            }
+
+            CountingComponent first = futures.get(0).get();
+            for (var future : futures) {
+                assertSame(first, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, CountingComponent.constructions.get());
+    }
+
+    @Test
+    public void testGetBeansWithAnnotationReturnsIndexedView() {
+        container.start();
+
+        Map<Class<?>, Object> components = container.getBeansWithAnnotation(Component.class);
+        assertEquals(3, components.size());
+        assertSame(components, container.getBeansWithAnnotation(Component.class));
+        assertSame(container.getBean(TestComponent.class), components.get(TestComponent.class));
+        assertThrows(UnsupportedOperationException.class, () -> components.remove(TestComponent.class));
+    }
+
+    @Test
+    public void testAnnotationIndexTracksCreatedBeans() {
+        assertTrue(container.getBeansWithAnnotation(Component.class).isEmpty());
+
+        container.getBean(DependentComponent.class);
+
+        Map<Class<?>, Object> components = container.getBeansWithAnnotation(Component.class);
+        assertEquals(Set.of(TestComponent.class, DependentComponent.class), components.keySet());
+    }
+
+    public interface Greeter {
+        String greet();
+    }
+
+    @Lazy
+    @Component
+    public static class LazyGreeter implements Greeter {
+        static final AtomicInteger constructions = new AtomicInteger();
+
+        public LazyGreeter() {
+            constructions.incrementAndGet();
+        }
+
+        public String greet() {
+            return "Hello lazily";
+        }
+    }
+
+    @Component
+    public static class GreeterClient {
+        private final Greeter greeter;
+        private final LazyGreeter lazyGreeter;
+
+        public GreeterClient(Greeter greeter, LazyGreeter lazyGreeter) {
+            this.greeter = greeter;
+            this.lazyGreeter = lazyGreeter;
+        }
+    }
+
+    @Test
+    public void testLazyBeanIsCreatedOnFirstUse() {
+        LazyGreeter.constructions.set(0);
+        Set<Class<?>> components = Set.of(LazyGreeter.class, GreeterClient.class);
+
+        DependencyGraph graph = new DependencyGraphBuilder().build(components, new ArrayList<>());
+        DIContainer testContainer = new DIContainer(graph, null);
+        testContainer.start();
+
+        GreeterClient client = testContainer.getBean(GreeterClient.class);
+        assertEquals(0, LazyGreeter.constructions.get());
+        assertFalse(testContainer.getAllBeans().containsKey(LazyGreeter.class));
+        assertSame(client.greeter, client.lazyGreeter);
+        assertEquals(client.lazyGreeter, client.greeter);
+        assertEquals(System.identityHashCode(client.lazyGreeter), client.lazyGreeter.hashCode());
+        assertTrue(client.lazyGreeter.toString().contains(LazyGreeter.class.getName()));
+        assertEquals(0, LazyGreeter.constructions.get());
+
+        assertEquals("Hello lazily", client.greeter.greet());
+        assertEquals("Hello lazily", client.lazyGreeter.greet());
+        assertEquals(1, LazyGreeter.constructions.get());
+        assertSame(testContainer.getBean(LazyGreeter.class), testContainer.getBean(Greeter.class));
+    }
+
+    public interface Named {
+        String name();
+    }
+
+    @Lazy
+    @Component
+    public static class LazyNamed implements Named {
+        static final AtomicInteger constructions = new AtomicInteger();
+        private final String name;
+
+        public LazyNamed() {
+            constructions.incrementAndGet();
+            this.name = "named lazily";
+        }
+
+        public final String name() {
+            return name;
+        }
+    }
+
+    @Component
+    public static class NamedClient {
+        private final Named named;
+
+        public NamedClient(Named named) {
+            this.named = named;
+        }
+    }
+
+    @Test
+    public void testLazyBeanWithFinalMethodsUsesInterfaceProxy() {
+        LazyNamed.constructions.set(0);
+        Set<Class<?>> components = Set.of(LazyNamed.class, NamedClient.class);
+
+        DependencyGraph graph = new DependencyGraphBuilder().build(components, new ArrayList<>());
+        DIContainer testContainer = new DIContainer(graph, null);
+        testContainer.start();
+
+        NamedClient client = testContainer.getBean(NamedClient.class);
+        assertEquals(0, LazyNamed.constructions.get());
+        assertFalse(client.named instanceof LazyNamed);
+
+        assertEquals("named lazily", client.named.name());
+        assertEquals(1, LazyNamed.constructions.get());
+    }
+
+    @Component
+    public static class ChickenComponent {
+        public ChickenComponent(EggComponent egg) {
+        }
+    }
+
+    @Component
+    public static class EggComponent {
+        public EggComponent(TestComponent testComponent, ChickenComponent chicken) {
+        }
+    }
+
+    @Test
+    public void testStartReportsCyclePath() {
+        Set<Class<?>> components = Set.of(TestComponent.class, ChickenComponent.class, EggComponent.class);
+
+        DependencyGraph graph = new DependencyGraphBuilder().build(components, new ArrayList<>());
+        DIContainer testContainer = new DIContainer(graph, null);
+
+        CyclicDependencyException exception = assertThrows(CyclicDependencyException.class, testContainer::start);
+        assertEquals(1, exception.getCycles().size());
+        assertEquals(Set.of(ChickenComponent.class, EggComponent.class),
+                new HashSet<>(exception.getCycles().get(0).getComponents()));
+        assertTrue(exception.getMessage().contains("parameter 1 of constructor EggComponent(TestComponent, ChickenComponent)"));
+    }
+}
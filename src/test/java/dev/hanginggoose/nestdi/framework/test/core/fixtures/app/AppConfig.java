@@ -0,0 +1,12 @@
+package dev.hanginggoose.nestdi.framework.test.core.fixtures.app;
+
+import dev.hanginggoose.nestdi.framework.annotations.Bean;
+import dev.hanginggoose.nestdi.framework.annotations.Configuration;
+
+@Configuration
+public class AppConfig {
+    @Bean
+    public String appName() {
+        return "Nest DI";
+    }
+}
@@ -0,0 +1,19 @@
+package dev.hanginggoose.nestdi.framework.test.core.fixtures.app;
+
+import dev.hanginggoose.nestdi.framework.annotations.Service;
+import dev.hanginggoose.nestdi.framework.test.core.fixtures.data.GreetingRepository;
+
+@Service
+public class GreetingService {
+    private final GreetingRepository repository;
+    private final String appName;
+
+    public GreetingService(GreetingRepository repository, String appName) {
+        this.repository = repository;
+        this.appName = appName;
+    }
+
+    public String greet(String name) {
+        return repository.findGreeting() + " " + name + " from " + appName;
+    }
+}
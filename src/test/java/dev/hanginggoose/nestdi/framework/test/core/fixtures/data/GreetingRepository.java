@@ -0,0 +1,10 @@
+package dev.hanginggoose.nestdi.framework.test.core.fixtures.data;
+
+import dev.hanginggoose.nestdi.framework.annotations.Repository;
+
+@Repository
+public class GreetingRepository {
+    public String findGreeting() {
+        return "Hello";
+    }
+}
@@ -4,12 +4,26 @@ import dev.hanginggoose.nestdi.framework.annotations.Component;
 import dev.hanginggoose.nestdi.framework.annotations.Controller;
 import dev.hanginggoose.nestdi.framework.annotations.Repository;
 import dev.hanginggoose.nestdi.framework.annotations.Service;
+import dev.hanginggoose.nestdi.framework.core.InjectionPlan;
+import dev.hanginggoose.nestdi.framework.graph.DependencyCycle;
+import dev.hanginggoose.nestdi.framework.graph.DependencyEdge;
 import dev.hanginggoose.nestdi.framework.graph.DependencyGraph;
 import dev.hanginggoose.nestdi.framework.graph.DependencyGraphBuilder;
+import dev.hanginggoose.nestdi.framework.graph.GraphChange;
+import dev.hanginggoose.nestdi.framework.graph.GraphExporter;
+import dev.hanginggoose.nestdi.framework.graph.JGraphTAdapter;
+import dev.hanginggoose.nestdi.framework.graph.StartupAnalysis;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,10 +44,10 @@ public class DependencyGraphTest {
         dependencyGraph.addComponent(ServiceA.class);
         dependencyGraph.addComponent(ServiceB.class);
 
-        dependencyGraph.getGraph().addEdge(ServiceA.class, ServiceB.class);
+        dependencyGraph.addDependency(ServiceA.class, ServiceB.class);
         assertFalse(dependencyGraph.hasCycles());
 
-        dependencyGraph.getGraph().addEdge(ServiceB.class, ServiceA.class);
+        dependencyGraph.addDependency(ServiceB.class, ServiceA.class);
         assertTrue(dependencyGraph.hasCycles());
     }
 
@@ -125,4 +139,229 @@ public class DependencyGraphTest {
         assertEquals(TestService.class, order.get(1));
         assertEquals(TestController.class, order.get(2));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testDependencyGraphBuilderComputesInjectionPlans() {
+        Set<Class<?>> components = new HashSet<>();
+        components.add(TestRepository.class);
+        components.add(TestService.class);
+        components.add(TestController.class);
+
+        DependencyGraphBuilder builder = new DependencyGraphBuilder();
+        DependencyGraph dependencyGraph = builder.build(components, new ArrayList<>());
+
+        InjectionPlan plan = dependencyGraph.getInjectionPlan(TestService.class);
+        assertSame(plan, dependencyGraph.getInjectionPlan(TestService.class));
+        assertFalse(plan.isFactoryMethod());
+        assertEquals(1, plan.getDependencyCount());
+        assertEquals(TestRepository.class, plan.getDependency(0));
+    }
+
+    interface Notifier {
+    }
+
+    static abstract class AbstractNotifier implements Notifier {
+    }
+
+    @Component
+    static class MailNotifier extends AbstractNotifier {
+    }
+
+    @Component
+    static class SmsNotifier implements Notifier {
+    }
+
+    @Service
+    static class NotificationService {
+        public NotificationService(AbstractNotifier notifier) {
+        }
+    }
+
+    @Service
+    static class BroadcastService {
+        public BroadcastService(Notifier notifier) {
+        }
+    }
+
+    @Test
+    public void testDependencyResolvedThroughTypeHierarchy() {
+        Set<Class<?>> components = Set.of(MailNotifier.class, SmsNotifier.class, NotificationService.class);
+
+        DependencyGraphBuilder builder = new DependencyGraphBuilder();
+        DependencyGraph dependencyGraph = builder.build(components, new ArrayList<>());
+
+        assertEquals(MailNotifier.class, dependencyGraph.getInjectionPlan(NotificationService.class).getDependency(0));
+        assertEquals(Set.of(MailNotifier.class, SmsNotifier.class),
+                new HashSet<>(dependencyGraph.getTypeIndex().getImplementations(Notifier.class)));
+    }
+
+    @Test
+    public void testAmbiguousDependencyIsReported() {
+        Set<Class<?>> components = Set.of(MailNotifier.class, SmsNotifier.class, BroadcastService.class);
+
+        DependencyGraphBuilder builder = new DependencyGraphBuilder();
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> builder.build(components, new ArrayList<>()));
+        assertTrue(exception.getMessage().contains(Notifier.class.getName()));
+    }
+
+    @Test
+    public void testIncrementalRegistrationReplansOnlyConsumers() {
+        Set<Class<?>> components = Set.of(SmsNotifier.class, BroadcastService.class, TestRepository.class);
+        DependencyGraph dependencyGraph = new DependencyGraphBuilder().build(components, new ArrayList<>());
+        int broadcastId = dependencyGraph.getBeanId(BroadcastService.class);
+        int smsId = dependencyGraph.getBeanId(SmsNotifier.class);
+
+        GraphChange removal = dependencyGraph.unregister(Set.of(SmsNotifier.class));
+        assertArrayEquals(new int[]{smsId}, removal.getRemovedIds());
+        assertArrayEquals(new int[]{broadcastId}, removal.getAffectedOrder());
+        assertNull(dependencyGraph.getBeanClass(smsId));
+        assertEquals(2, dependencyGraph.getBeanCount());
+        assertEquals(0, dependencyGraph.getEdgeCount());
+        assertNull(dependencyGraph.getInjectionPlan(BroadcastService.class).getDependency(0));
+
+        GraphChange registration = dependencyGraph.register(Set.of(MailNotifier.class), List.of());
+        int mailId = dependencyGraph.getBeanId(MailNotifier.class);
+        assertEquals(smsId, mailId);
+        assertArrayEquals(new int[]{mailId}, registration.getAddedIds());
+        assertArrayEquals(new int[]{mailId, broadcastId}, registration.getAffectedOrder());
+        assertArrayEquals(new int[]{mailId}, dependencyGraph.getDependencies(broadcastId));
+        List<Class<?>> order = dependencyGraph.getTopologicalOrder();
+        assertEquals(3, order.size());
+        assertTrue(order.indexOf(MailNotifier.class) < order.indexOf(BroadcastService.class));
+
+        assertThrows(IllegalStateException.class,
+                () -> dependencyGraph.register(Set.of(SmsNotifier.class), List.of()));
+        assertFalse(dependencyGraph.containsComponent(SmsNotifier.class));
+        assertEquals(MailNotifier.class, dependencyGraph.getInjectionPlan(BroadcastService.class).getDependency(0));
+        assertArrayEquals(new int[]{broadcastId}, dependencyGraph.getDependents(mailId));
+    }
+
+    @Test
+    public void testCyclesAreReportedAndOrderIsCached() {
+        Set<Class<?>> components = new HashSet<>();
+        components.add(CycleRepository.class);
+        components.add(CycleService.class);
+        components.add(OtherCycleService.class);
+        components.add(CycleController.class);
+
+        DependencyGraph dependencyGraph = new DependencyGraphBuilder().build(components, new ArrayList<>());
+
+        assertEquals(Set.of(CycleService.class, OtherCycleService.class), dependencyGraph.getCycles());
+        assertThrows(IllegalStateException.class, dependencyGraph::getTopologicalOrderIds);
+    }
+
+    @Test
+    public void testCompactGraphDeduplicatesEdges() {
+        DependencyGraph dependencyGraph = new DependencyGraph();
+        dependencyGraph.addComponent(TestRepository.class);
+        dependencyGraph.addComponent(TestService.class);
+        dependencyGraph.addComponent(TestController.class);
+
+        dependencyGraph.addDependency(TestRepository.class, TestService.class);
+        dependencyGraph.addDependency(TestRepository.class, TestService.class);
+        dependencyGraph.addDependency(TestService.class, TestController.class);
+        dependencyGraph.addDependency(TestRepository.class, TestController.class);
+
+        assertEquals(3, dependencyGraph.getEdgeCount());
+        assertArrayEquals(new int[]{1, 2}, dependencyGraph.getDependents(0));
+        assertArrayEquals(new int[]{0, 1}, dependencyGraph.getDependencies(2));
+        assertArrayEquals(new int[]{0, 1, 2}, dependencyGraph.getTopologicalOrderIds());
+        assertEquals(3, JGraphTAdapter.toJGraphT(dependencyGraph).edgeSet().size());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> dependencyGraph.addDependency(TestRepository.class, CycleService.class));
+    }
+
+    @Test
+    public void testCyclePathReportsInjectionPoints() throws Exception {
+        Set<Class<?>> components = Set.of(CycleRepository.class, CycleService.class, OtherCycleService.class,
+                CycleController.class);
+
+        DependencyGraph dependencyGraph = new DependencyGraphBuilder().build(components, new ArrayList<>());
+
+        List<DependencyCycle> cycles = dependencyGraph.findCycles();
+        assertEquals(1, cycles.size());
+
+        DependencyCycle cycle = cycles.get(0);
+        assertEquals(2, cycle.getEdges().size());
+        assertEquals(3, cycle.getPath().size());
+        assertEquals(cycle.getPath().get(0), cycle.getPath().get(2));
+
+        for (DependencyEdge edge : cycle.getEdges()) {
+            assertEquals(0, edge.getParameterIndex());
+            assertEquals(edge.getDependent(), edge.getInjectionPoint().getDeclaringClass());
+            assertFalse(edge.isFactoryMethod());
+        }
+        assertEquals(CycleService.class.getDeclaredConstructor(OtherCycleService.class, CycleRepository.class),
+                cycle.getEdges().stream()
+                        .filter(edge -> edge.getDependent() == CycleService.class)
+                        .findFirst().orElseThrow()
+                        .getInjectionPoint());
+    }
+
+    @Test
+    public void testSelfDependencyIsACycle() {
+        DependencyGraph dependencyGraph = new DependencyGraph();
+        dependencyGraph.addComponent(TestRepository.class);
+        dependencyGraph.addDependency(TestRepository.class, TestRepository.class);
+
+        List<DependencyCycle> cycles = dependencyGraph.findCycles();
+        assertEquals(1, cycles.size());
+        assertEquals(List.of(TestRepository.class, TestRepository.class), cycles.get(0).getPath());
+        assertEquals(-1, cycles.get(0).getEdges().get(0).getParameterIndex());
+    }
+
+    @Component
+    static class StandaloneComponent {
+    }
+
+    private static DependencyGraph buildLayeredGraph() {
+        DependencyGraph dependencyGraph = new DependencyGraph();
+        dependencyGraph.addComponent(TestRepository.class);
+        dependencyGraph.addComponent(TestService.class);
+        dependencyGraph.addComponent(TestController.class);
+        dependencyGraph.addComponent(StandaloneComponent.class);
+        dependencyGraph.analyzeDependencies(TestService.class);
+        dependencyGraph.analyzeDependencies(TestController.class);
+        return dependencyGraph;
+    }
+
+    @Test
+    public void testStartupAnalysis() {
+        StartupAnalysis analysis = buildLayeredGraph().analyzeStartup(Map.of(
+                TestRepository.class, Duration.ofMillis(10),
+                TestService.class, Duration.ofMillis(20),
+                TestController.class, Duration.ofMillis(5),
+                StandaloneComponent.class, Duration.ofMillis(15)));
+
+        assertEquals(3, analysis.getDepth());
+        assertArrayEquals(new int[]{2, 1, 1}, analysis.getLayerWidths());
+        assertEquals(List.of(TestRepository.class, StandaloneComponent.class), analysis.getLayers().get(0));
+        assertEquals(List.of(TestRepository.class, TestService.class, TestController.class), analysis.getCriticalPath());
+        assertEquals(Duration.ofMillis(35), analysis.getCriticalPathTime());
+        assertEquals(Duration.ofMillis(50), analysis.getTotalTime());
+        assertEquals(1.0, analysis.estimateSpeedup(1), 1e-9);
+        assertEquals(Duration.ofMillis(35), analysis.estimateStartupTime(2));
+        assertEquals(50.0 / 35.0, analysis.estimateSpeedup(4), 1e-9);
+    }
+
+    @Test
+    public void testExportersStreamToFile(@TempDir Path directory) throws Exception {
+        DependencyGraph dependencyGraph = buildLayeredGraph();
+
+        Path dot = directory.resolve("graph.dot");
+        dependencyGraph.export(GraphExporter.DOT, dot);
+        String dotContent = Files.readString(dot);
+        assertTrue(dotContent.startsWith("digraph dependencies {"));
+        assertTrue(dotContent.contains("n0 [label=\"TestRepository\"];"));
+        assertTrue(dotContent.contains("n0 -> n1;"));
+        assertTrue(dotContent.contains("n1 -> n2;"));
+
+        Path json = directory.resolve("graph.json");
+        dependencyGraph.export(GraphExporter.JSON, json);
+        String jsonContent = Files.readString(json);
+        assertTrue(jsonContent.contains("{\"id\":3,\"class\":\"" + StandaloneComponent.class.getName() + "\"}"));
+        assertTrue(jsonContent.contains("{\"dependent\":1,\"dependency\":0}"));
+    }
+}
@@ -1,14 +1,44 @@
 package dev.hanginggoose.nestdi.framework.test.interception;
 
+import dev.hanginggoose.nestdi.framework.annotations.Async;
+import dev.hanginggoose.nestdi.framework.annotations.Batched;
+import dev.hanginggoose.nestdi.framework.annotations.Cached;
 import dev.hanginggoose.nestdi.framework.annotations.Logged;
 import dev.hanginggoose.nestdi.framework.annotations.Timed;
+import dev.hanginggoose.nestdi.framework.interception.AsyncStatistics;
+import dev.hanginggoose.nestdi.framework.interception.BatchStatistics;
+import dev.hanginggoose.nestdi.framework.interception.CacheStatistics;
+import dev.hanginggoose.nestdi.framework.interception.InterceptionContext;
 import dev.hanginggoose.nestdi.framework.interception.InterceptionProxyFactory;
+import dev.hanginggoose.nestdi.framework.interception.LatencyHistogram;
+import dev.hanginggoose.nestdi.framework.interception.ProxyClassCache;
+import dev.hanginggoose.nestdi.framework.interception.TimingStatistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -27,6 +57,11 @@ public class InterceptionProxyFactoryTest {
         System.setOut(originalOut);
     }
 
+    private String flushedOutput(InterceptionContext context) {
+        context.getLogWriter().flush();
+        return outputStream.toString();
+    }
+
     public static class NoInterceptionService {
         public String sayHello() {
             return "Hello";
@@ -73,39 +108,43 @@ public class InterceptionProxyFactoryTest {
         String result = proxy.sayHello();
         assertEquals("Hello from LoggedService", result);
 
-        String output = outputStream.toString();
+        String output = flushedOutput(InterceptionContext.getDefault());
         assertTrue(output.contains("Entering method: sayHello"));
         assertTrue(output.contains("Exiting method: sayHello"));
     }
 
     @Test
     public void testTimedInterception() throws Exception {
+        InterceptionContext context = new InterceptionContext();
         TimedService target = new TimedService();
-        TimedService proxy = InterceptionProxyFactory.createProxy(target);
+        TimedService proxy = InterceptionProxyFactory.createProxy(target, context);
 
         assertNotSame(target, proxy);
 
         proxy.slowMethod();
 
-        String output = outputStream.toString();
-        assertTrue(output.contains("Method slowMethod executed in"));
-        assertTrue(output.contains("ms"));
+        TimingStatistics statistics = context.getTimings()
+                .getStatistics(TimedService.class.getMethod("slowMethod"));
+        assertEquals(1, statistics.getCount());
+        assertTrue(statistics.getMax().compareTo(Duration.ofMillis(50)) >= 0);
+        assertFalse(outputStream.toString().contains("executed in"));
     }
 
     @Test
-    public void testCombinedLoggedAndTimed() {
+    public void testCombinedLoggedAndTimed() throws Exception {
+        InterceptionContext context = new InterceptionContext();
         CombinedService target = new CombinedService();
-        CombinedService proxy = InterceptionProxyFactory.createProxy(target);
+        CombinedService proxy = InterceptionProxyFactory.createProxy(target, context);
 
         assertNotSame(target, proxy);
 
         String result = proxy.combined();
         assertEquals("Combined", result);
 
-        String output = outputStream.toString();
+        String output = flushedOutput(context);
         assertTrue(output.contains("Entering method: combined"));
-        assertTrue(output.contains("Method combined executed in"));
         assertTrue(output.contains("Exiting method: combined"));
+        assertEquals(1, context.getTimings().getStatistics(CombinedService.class.getMethod("combined")).getCount());
     }
 
     public interface GreetingService {
@@ -136,6 +175,479 @@ public class InterceptionProxyFactoryTest {
         }
     }
 
+    public interface AccountService {
+        String owner();
+
+        int withdraw(int amount);
+    }
+
+    public static class AccountServiceImpl implements AccountService {
+        @Override
+        public String owner() {
+            return "KDG";
+        }
+
+        @Logged
+        @Override
+        public int withdraw(int amount) {
+            if (amount < 0) {
+                throw new IllegalArgumentException("Negative amount");
+            }
+            return 100 - amount;
+        }
+    }
+
+    @Test
+    public void testInterceptorChainsPassThroughAndPropagateExceptions() {
+        AccountService proxy = InterceptionProxyFactory.createProxy(new AccountServiceImpl());
+
+        assertEquals("KDG", proxy.owner());
+        assertFalse(outputStream.toString().contains("Entering method: owner"));
+
+        assertEquals(60, proxy.withdraw(40));
+        assertTrue(flushedOutput(InterceptionContext.getDefault()).contains("Entering method: withdraw"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> proxy.withdraw(-1));
+        assertEquals("Negative amount", exception.getMessage());
+        assertEquals(proxy.hashCode(), proxy.hashCode());
+    }
+
+    public static class AuditService {
+        @Logged(arguments = true, result = true)
+        public String audit(String user, int amount) {
+            return user + ":" + amount;
+        }
+
+        @Logged(sampleRate = 0)
+        public void never() {
+        }
+
+        @Logged(maxPerSecond = 1)
+        public void limited() {
+        }
+    }
+
+    @Test
+    public void testLoggedSamplingRateLimitAndCapture() {
+        InterceptionContext context = new InterceptionContext();
+        AuditService proxy = InterceptionProxyFactory.createProxy(new AuditService(), context);
+
+        assertEquals("KDG:5", proxy.audit("KDG", 5));
+        for (int i = 0; i < 3; i++) {
+            proxy.never();
+        }
+        for (int i = 0; i < 10; i++) {
+            proxy.limited();
+        }
+
+        String output = flushedOutput(context);
+        assertTrue(output.contains("Entering method: audit with arguments [KDG, 5]"));
+        assertTrue(output.contains("Exiting method: audit returning KDG:5"));
+        assertFalse(output.contains("Entering method: never"));
+        assertTrue(output.contains("Entering method: limited"));
+        assertTrue(context.getLogWriter().getSuppressedCount() >= 11);
+        assertEquals(0, context.getLogWriter().getDroppedCount());
+        assertEquals(0, context.getLogWriter().getQueueSize());
+
+        long written = context.getLogWriter().getWrittenCount();
+        context.close();
+
+        assertEquals("KDG:6", proxy.audit("KDG", 6));
+        assertEquals(2, context.getLogWriter().getDroppedCount());
+        assertEquals(written, context.getLogWriter().getWrittenCount());
+    }
+
+    public interface PriceService {
+        long price(String item, int quantity);
+    }
+
+    public static class PriceServiceImpl implements PriceService {
+        private final AtomicInteger computations = new AtomicInteger();
+
+        @Cached(maxSize = 2)
+        @Override
+        public long price(String item, int quantity) {
+            computations.incrementAndGet();
+            return (long) item.length() * quantity;
+        }
+
+        public final int getComputations() {
+            return computations.get();
+        }
+    }
+
+    public static class SlowLookupService {
+        private final AtomicInteger computations = new AtomicInteger();
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Cached(expireAfterWriteMillis = 60_000)
+        public String lookup(String key) throws InterruptedException {
+            computations.incrementAndGet();
+            release.await();
+            return key.toUpperCase();
+        }
+    }
+
+    @Test
+    public void testCachedMethodsEvictLeastRecentlyUsed() throws Exception {
+        InterceptionContext context = new InterceptionContext();
+        PriceServiceImpl target = new PriceServiceImpl();
+        PriceService proxy = InterceptionProxyFactory.createProxy(target, context);
+
+        assertTrue(Proxy.isProxyClass(proxy.getClass()));
+        assertEquals(6, proxy.price("KDG", 2));
+        assertEquals(6, proxy.price("KDG", 2));
+        assertEquals(4, proxy.price("NE", 2));
+        assertEquals(6, proxy.price("KDG", 2));
+        assertEquals(8, proxy.price("NEST", 2));
+        assertEquals(4, proxy.price("NE", 2));
+        assertEquals(4, target.getComputations());
+
+        CacheStatistics statistics = context.getCaches()
+                .getStatistics().get(PriceServiceImpl.class.getMethod("price", String.class, int.class));
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(4, statistics.getMissCount());
+        assertEquals(2, statistics.getEvictionCount());
+        assertEquals(2, statistics.getSize());
+    }
+
+    @Test
+    public void testCachedValueIsLoadedOnceForConcurrentCallers() throws Exception {
+        InterceptionContext context = new InterceptionContext();
+        SlowLookupService target = new SlowLookupService();
+        SlowLookupService proxy = InterceptionProxyFactory.createProxy(target, context);
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> proxy.lookup("nest")));
+            }
+            Thread.sleep(100);
+            target.release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("NEST", result.get());
+            }
+        }
+
+        assertEquals(1, target.computations.get());
+        CacheStatistics statistics = context.getCaches()
+                .getStatistics().get(SlowLookupService.class.getMethod("lookup", String.class));
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(7, statistics.getHitCount());
+    }
+
+    public static class ChecksumService {
+        private final AtomicInteger computations = new AtomicInteger();
+        private final AtomicBoolean resolving = new AtomicBoolean();
+        private ChecksumService self;
+
+        @Cached
+        public int checksum(int[] values) {
+            computations.incrementAndGet();
+            return Arrays.stream(values).sum();
+        }
+
+        @Cached
+        public String resolve(String key) {
+            if (resolving.getAndSet(true)) {
+                return key;
+            }
+            try {
+                return "[" + self.resolve(key) + "]";
+            } finally {
+                resolving.set(false);
+            }
+        }
+    }
+
+    @Test
+    public void testCachedKeysCompareArrayContentsAndAllowReentrantCalls() {
+        InterceptionContext context = new InterceptionContext();
+        ChecksumService target = new ChecksumService();
+        ChecksumService proxy = InterceptionProxyFactory.createProxy(target, context);
+        target.self = proxy;
+
+        int[] values = {1, 2, 3};
+        assertEquals(6, proxy.checksum(values));
+        values[0] = 4;
+        assertEquals(6, proxy.checksum(new int[]{1, 2, 3}));
+        assertEquals(9, proxy.checksum(values));
+        assertEquals(2, target.computations.get());
+
+        assertEquals("[nest]", assertTimeoutPreemptively(Duration.ofSeconds(5), () -> proxy.resolve("nest")));
+        assertEquals("[nest]", proxy.resolve("nest"));
+    }
+
+    public abstract static class NamedLookup {
+        final AtomicInteger computations = new AtomicInteger();
+
+        protected abstract String name();
+
+        @Cached
+        public String find(int id) {
+            computations.incrementAndGet();
+            return name() + id;
+        }
+    }
+
+    public static class FirstLookup extends NamedLookup {
+        @Override
+        protected String name() {
+            return "A";
+        }
+    }
+
+    public static class SecondLookup extends NamedLookup {
+        @Override
+        protected String name() {
+            return "B";
+        }
+    }
+
+    @Test
+    public void testInheritedInterceptedMethodsAreProxied() {
+        InterceptionContext context = new InterceptionContext();
+        FirstLookup target = new FirstLookup();
+        FirstLookup proxy = InterceptionProxyFactory.createProxy(target, context);
+
+        assertNotSame(target, proxy);
+        assertEquals("A1", proxy.find(1));
+        assertEquals("A1", proxy.find(1));
+        assertEquals(1, target.computations.get());
+    }
+
+    @Test
+    public void testInheritedCachedMethodsAreCachedPerBeanClass() throws Exception {
+        InterceptionContext context = new InterceptionContext();
+        NamedLookup first = InterceptionProxyFactory.createProxy(new FirstLookup(), context);
+        NamedLookup second = InterceptionProxyFactory.createProxy(new SecondLookup(), context);
+
+        assertEquals("A1", first.find(1));
+        assertEquals("B1", second.find(1));
+        assertEquals("A1", first.find(1));
+
+        Method find = NamedLookup.class.getMethod("find", int.class);
+        assertEquals(1, context.getCaches().getStatistics(FirstLookup.class).get(find).getHitCount());
+        assertEquals(0, context.getCaches().getStatistics(SecondLookup.class).get(find).getHitCount());
+        assertEquals(2, context.getCaches().getStatistics().get(find).getMissCount());
+    }
+
+    public static class ReportService {
+        private final CountDownLatch written = new CountDownLatch(1);
+
+        @Async
+        public CompletableFuture<String> render(String name) {
+            return CompletableFuture.completedFuture(name + (Thread.currentThread().isVirtual() ? "@virtual" : ""));
+        }
+
+        @Async
+        public Future<String> fail() {
+            throw new IllegalStateException("Report failed");
+        }
+
+        @Async
+        public void write() {
+            written.countDown();
+        }
+    }
+
+    @Async("reports")
+    public static class PinnedReportService {
+        public CompletableFuture<String> threadName() {
+            return CompletableFuture.completedFuture(Thread.currentThread().getName());
+        }
+    }
+
+    @Test
+    public void testAsyncMethodsRunOnExecutorsAndPropagateExceptions() throws Exception {
+        InterceptionContext context = new InterceptionContext();
+        ReportService target = new ReportService();
+        ReportService proxy = InterceptionProxyFactory.createProxy(target, context);
+
+        assertEquals("KDG@virtual", proxy.render("KDG").get(5, TimeUnit.SECONDS));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> proxy.fail().get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals("Report failed", exception.getCause().getMessage());
+
+        proxy.write();
+        assertTrue(target.written.await(5, TimeUnit.SECONDS));
+
+        ExecutorService reportExecutor =
+                Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "reports-1"));
+        context.getExecutors().register("reports", reportExecutor);
+        PinnedReportService pinned = InterceptionProxyFactory.createProxy(new PinnedReportService(), context);
+        assertEquals("reports-1", pinned.threadName().get(5, TimeUnit.SECONDS));
+        reportExecutor.shutdown();
+        assertTrue(reportExecutor.awaitTermination(5, TimeUnit.SECONDS));
+
+        AsyncStatistics statistics = context.getExecutors().getStatistics().get("default");
+        assertEquals(0, statistics.getQueueDepth());
+        assertEquals(1, statistics.getFailedCount());
+        assertEquals(1, context.getExecutors().getStatistics().get("reports").getCompletedCount());
+
+        context.close();
+        ExecutionException rejected = assertThrows(ExecutionException.class,
+                () -> proxy.render("late").get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, rejected.getCause());
+        assertThrows(RejectedExecutionException.class, proxy::write);
+    }
+
+    public static class UserRepository {
+        private final List<Integer> bulkSizes = new CopyOnWriteArrayList<>();
+
+        @Batched(value = "findAll", maxSize = 4, windowMillis = 60_000)
+        public CompletableFuture<String> find(Integer id) {
+            throw new UnsupportedOperationException("Single lookups are batched");
+        }
+
+        public Map<Integer, String> findAll(List<Integer> ids) {
+            bulkSizes.add(ids.size());
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> "user-" + id));
+        }
+
+        @Batched(value = "namesOf", windowMillis = 20)
+        public String name(Integer id) {
+            throw new UnsupportedOperationException("Single lookups are batched");
+        }
+
+        @Batched(value = "findAll", maxSize = 1)
+        public Object lookup(Integer id) {
+            throw new UnsupportedOperationException("Single lookups are batched");
+        }
+
+        public List<String> namesOf(Set<Integer> ids) {
+            bulkSizes.add(ids.size());
+            return ids.stream().map(id -> "name-" + id).toList();
+        }
+    }
+
+    @Test
+    public void testBatchedCallsAreCollapsedIntoBulkCalls() throws Exception {
+        InterceptionContext context = new InterceptionContext();
+        UserRepository target = new UserRepository();
+        UserRepository proxy = InterceptionProxyFactory.createProxy(target, context);
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int id = 1; id <= 4; id++) {
+            results.add(proxy.find(id));
+        }
+        for (int id = 1; id <= 4; id++) {
+            assertEquals("user-" + id, results.get(id - 1).get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals("name-7", proxy.name(7));
+        assertEquals(List.of(4, 1), target.bulkSizes);
+
+        BatchStatistics statistics = context.getBatches().getStatistics()
+                .get(UserRepository.class.getMethod("find", Integer.class));
+        assertEquals(1, statistics.getBatchCount());
+        assertEquals(4, statistics.getRequestCount());
+        assertEquals(4, statistics.getMaxBatchSize());
+        assertEquals(4, statistics.getWaitTimes().getCount());
+
+        BatchStatistics windowStatistics = context.getBatches().getStatistics()
+                .get(UserRepository.class.getMethod("name", Integer.class));
+        assertTrue(windowStatistics.getWaitTimes().getMax().compareTo(Duration.ofMillis(20)) >= 0);
+
+        assertEquals("user-9", proxy.lookup(9));
+        UserRepository secondProxy = InterceptionProxyFactory.createProxy(new UserRepository(), context);
+        List<CompletableFuture<String>> secondResults = new ArrayList<>();
+        for (int id = 1; id <= 4; id++) {
+            secondResults.add(secondProxy.find(id));
+        }
+        assertEquals("user-4", secondResults.get(3).get(5, TimeUnit.SECONDS));
+        assertEquals(2, context.getBatches().getStatistics()
+                .get(UserRepository.class.getMethod("find", Integer.class)).getBatchCount());
+
+        CompletableFuture<String> pending = proxy.find(5);
+        context.close();
+        ExecutionException rejected = assertThrows(ExecutionException.class, () -> pending.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, rejected.getCause());
+        assertThrows(ExecutionException.class, () -> proxy.find(6).get(5, TimeUnit.SECONDS));
+    }
+
+    public static class CounterService {
+        private final int step;
+        private long total;
+
+        public CounterService(int step) {
+            this.step = step;
+        }
+
+        @Timed
+        public long add(int times) {
+            total += (long) step * times;
+            return total;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        @Timed
+        public void reset() {
+            throw new IllegalStateException("Counter cannot be reset");
+        }
+    }
+
+    public static class InventoryService {
+        private final List<String> items = new ArrayList<>(List.of("bolt"));
+
+        @Timed
+        public void add(String item) {
+            items.add(item);
+        }
+
+        public final int count() {
+            return items.size();
+        }
+    }
+
+    @Test
+    public void testGeneratedProxyDelegatesToTargetState() throws Exception {
+        InterceptionContext context = new InterceptionContext();
+        CounterService target = new CounterService(3);
+        CounterService proxy = InterceptionProxyFactory.createProxy(target, context);
+
+        assertNotSame(target, proxy);
+        assertTrue(proxy.getClass().getName().startsWith(CounterService.class.getName() + "$$NestProxy$"));
+        assertEquals(6, proxy.add(2));
+        assertEquals(9, proxy.add(1));
+        assertEquals(9, proxy.getTotal());
+        assertEquals(9, target.getTotal());
+        assertEquals(target.hashCode(), proxy.hashCode());
+        assertEquals(2, context.getTimings().getStatistics(CounterService.class.getMethod("add", int.class)).getCount());
+        assertThrows(IllegalStateException.class, proxy::reset);
+        assertEquals(1, context.getTimings().getStatistics(CounterService.class.getMethod("reset")).getCount());
+
+        AccountService accountProxy = InterceptionProxyFactory.createProxy(new AccountServiceImpl());
+        assertInstanceOf(AccountServiceImpl.class, accountProxy);
+    }
+
+    @Test
+    public void testClassWithFinalMethodsIsNotProxiedBySubclassGeneration() {
+        InventoryService proxy = InterceptionProxyFactory.createProxy(new InventoryService());
+
+        assertFalse(proxy.getClass().getName().contains("$$NestProxy$"));
+        proxy.add("nut");
+        assertTrue(proxy.count() >= 1);
+    }
+
+    @Test
+    public void testProxyClassesAreGeneratedOnce() {
+        CounterService first = InterceptionProxyFactory.createProxy(new CounterService(1));
+        long misses = ProxyClassCache.getMissCount();
+
+        CounterService second = InterceptionProxyFactory.createProxy(new CounterService(2));
+
+        assertSame(first.getClass(), second.getClass());
+        assertEquals(misses, ProxyClassCache.getMissCount());
+        assertEquals(2, second.add(1));
+        assertEquals(1, first.add(1));
+    }
+
     @Test
     public void testInterceptionOnInterfaceWithLogged() {
         GreetingServiceImpl target = new GreetingServiceImpl();
@@ -146,23 +658,43 @@ public class InterceptionProxyFactoryTest {
         String result = proxy.greet("KDG");
         assertEquals("Hello, KDG", result);
 
-        String output = outputStream.toString();
+        String output = flushedOutput(InterceptionContext.getDefault());
         assertTrue(output.contains("Entering method: greet"));
         assertTrue(output.contains("Exiting method: greet"));
     }
 
     @Test
-    public void testInterceptionOnInterfaceWithTimed() {
+    public void testInterceptionOnInterfaceWithTimed() throws Exception {
+        InterceptionContext context = new InterceptionContext();
         SlowServiceImpl target = new SlowServiceImpl();
-        SlowService proxy = InterceptionProxyFactory.createProxy(target);
+        SlowService proxy = InterceptionProxyFactory.createProxy(target, context);
 
         assertNotSame(target, proxy);
 
         proxy.work();
 
-        String output = outputStream.toString();
-        assertTrue(output.contains("Method work executed in"));
-        assertTrue(output.contains("ms"));
+        TimingStatistics statistics = context.getTimings().getStatistics(SlowServiceImpl.class.getMethod("work"));
+        assertEquals(1, statistics.getCount());
+        assertTrue(statistics.getMean().compareTo(Duration.ofMillis(30)) >= 0);
+    }
+
+    @Test
+    public void testLatencyHistogramReportsPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        TimingStatistics statistics = histogram.snapshot();
+        assertEquals(1000, statistics.getCount());
+        assertEquals(500_500, statistics.getMean().toNanos());
+        assertEquals(1_000_000, statistics.getMax().toNanos());
+        assertEquals(500_000, statistics.getP50().toNanos(), 500_000 / 16.0);
+        assertEquals(990_000, statistics.getP99().toNanos(), 990_000 / 16.0);
+        assertEquals(999_000, statistics.getP999().toNanos(), 999_000 / 16.0);
+
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getCount());
     }
 
     @Test
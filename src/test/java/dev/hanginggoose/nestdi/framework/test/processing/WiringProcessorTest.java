@@ -0,0 +1,154 @@
+package dev.hanginggoose.nestdi.framework.test.processing;
+
+import dev.hanginggoose.nestdi.framework.core.DIContainer;
+import dev.hanginggoose.nestdi.framework.core.DIContainerFactory;
+import dev.hanginggoose.nestdi.framework.processing.WiringProcessor;
+import dev.hanginggoose.nestdi.framework.test.support.Compilation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WiringProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Compilation compilation;
+
+    private int compile(Map<String, String> sources) throws IOException {
+        compilation = new Compilation(tempDir)
+                .processor(WiringProcessor.class)
+                .option("-A" + DIContainerFactory.WIRING_OPTION + "=sample.AppWiring");
+        return compilation.run(sources);
+    }
+
+    private static Map<String, String> sampleSources() {
+        return Map.of(
+                "sample.Repository", """
+                        package sample;
+                        public interface Repository {
+                            String find();
+                        }
+                        """,
+                "sample.UserRepository", """
+                        package sample;
+                        @dev.hanginggoose.nestdi.framework.annotations.Repository
+                        public class UserRepository implements Repository {
+                            public String find() {
+                                return "user";
+                            }
+                        }
+                        """,
+                "sample.UserService", """
+                        package sample;
+                        @dev.hanginggoose.nestdi.framework.annotations.Service
+                        public class UserService {
+                            private final Repository repository;
+                            private final String prefix;
+                            public UserService(Repository repository, String prefix) {
+                                this.repository = repository;
+                                this.prefix = prefix;
+                            }
+                            public String describe() {
+                                return prefix + repository.find();
+                            }
+                        }
+                        """,
+                "sample.SampleConfig", """
+                        package sample;
+                        @dev.hanginggoose.nestdi.framework.annotations.Configuration
+                        public class SampleConfig {
+                            @dev.hanginggoose.nestdi.framework.annotations.Bean(name = "prefix")
+                            public String prefix() {
+                                return "found ";
+                            }
+                        }
+                        """
+        );
+    }
+
+    @Test
+    public void testGeneratedWiringCreatesContainer() throws Exception {
+        assertEquals(0, compile(sampleSources()), compilation.getDiagnostics());
+
+        String generated = Files.readString(compilation.getSourceDirectory().resolve("sample/AppWiring.java"));
+        assertFalse(generated.contains("getDeclaredConstructor"));
+        assertFalse(generated.contains("setAccessible"));
+
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[]{compilation.getClassesDirectory().toUri().toURL()}, original)) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+
+            DIContainer container = DIContainerFactory.createFromWiring();
+            container.start();
+
+            Class<?> serviceClass = classLoader.loadClass("sample.UserService");
+            Object service = container.getBean(serviceClass);
+            assertEquals("found user", serviceClass.getMethod("describe").invoke(service));
+            assertEquals("found ", container.getBean("prefix"));
+            assertSame(container.getBean(classLoader.loadClass("sample.UserRepository")),
+                    container.getBean(classLoader.loadClass("sample.Repository")));
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void testAmbiguousDependencyFailsCompilation() throws Exception {
+        Map<String, String> sources = new HashMap<>(sampleSources());
+        sources.put("sample.CachedRepository", """
+                package sample;
+                @dev.hanginggoose.nestdi.framework.annotations.Repository
+                public class CachedRepository implements Repository {
+                    public String find() {
+                        return "cached";
+                    }
+                }
+                """);
+
+        assertNotEquals(0, compile(sources));
+        assertTrue(compilation.getDiagnostics().contains("Ambiguous dependency: 2 beans of type sample.Repository"));
+    }
+
+    @Test
+    public void testDuplicateBeanTypeFailsCompilation() throws Exception {
+        Map<String, String> sources = new HashMap<>(sampleSources());
+        sources.put("sample.SuffixConfig", """
+                package sample;
+                @dev.hanginggoose.nestdi.framework.annotations.Configuration
+                public class SuffixConfig {
+                    @dev.hanginggoose.nestdi.framework.annotations.Bean(name = "suffix")
+                    public String suffix() {
+                        return "!";
+                    }
+                    @dev.hanginggoose.nestdi.framework.annotations.Bean
+                    public UserRepository userRepository() {
+                        return new UserRepository();
+                    }
+                }
+                """);
+
+        assertNotEquals(0, compile(sources));
+        assertTrue(compilation.getDiagnostics().contains("Duplicate bean of type java.lang.String"));
+        assertTrue(compilation.getDiagnostics().contains("has the same type as component sample.UserRepository"));
+    }
+
+    @Test
+    public void testMissingRequiredDependencyFailsCompilation() throws Exception {
+        Map<String, String> sources = new HashMap<>(sampleSources());
+        sources.remove("sample.SampleConfig");
+
+        assertNotEquals(0, compile(sources));
+        assertTrue(compilation.getDiagnostics().contains("No component found for required dependency type java.lang.String"));
+    }
+}
@@ -0,0 +1,255 @@
+package dev.hanginggoose.nestdi.framework.test.scanning;
+
+import dev.hanginggoose.nestdi.framework.core.BeanInfo;
+import dev.hanginggoose.nestdi.framework.scanning.ClassPathScanner;
+import dev.hanginggoose.nestdi.framework.scanning.ScanResult;
+import dev.hanginggoose.nestdi.framework.test.support.Compilation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassPathScannerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path compile() throws IOException {
+        return compile(Map.of(
+                "sample.Stereotype", """
+                        package sample;
+                        @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                        @dev.hanginggoose.nestdi.framework.annotations.Service
+                        public @interface Stereotype {
+                        }
+                        """,
+                "sample.CustomService", """
+                        package sample;
+                        @Stereotype
+                        public class CustomService {
+                        }
+                        """,
+                "sample.AbstractRepository", """
+                        package sample;
+                        @dev.hanginggoose.nestdi.framework.annotations.Repository
+                        public abstract class AbstractRepository {
+                        }
+                        """,
+                "sample.sub.UserRepository", """
+                        package sample.sub;
+                        public class UserRepository extends sample.AbstractRepository {
+                        }
+                        """,
+                "sample.SampleConfig", """
+                        package sample;
+                        @dev.hanginggoose.nestdi.framework.annotations.Configuration
+                        public class SampleConfig {
+                            @dev.hanginggoose.nestdi.framework.annotations.Bean
+                            public String appName(CustomService service) {
+                                return "app";
+                            }
+                            public String helper() {
+                                return "helper";
+                            }
+                        }
+                        """,
+                "sample.Plain", """
+                        package sample;
+                        public class Plain {
+                        }
+                        """
+        ));
+    }
+
+    private Path compile(Map<String, String> sources) throws IOException {
+        return new Compilation(tempDir).compile(sources);
+    }
+
+    private Path jar(Path classesDir) throws IOException {
+        Path jarFile = tempDir.resolve("sample.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jarFile));
+             Stream<Path> files = Files.walk(classesDir)) {
+            for (Path file : files.sorted().toList()) {
+                String name = classesDir.relativize(file).toString().replace('\\', '/');
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if (Files.isDirectory(file)) {
+                    out.putNextEntry(new JarEntry(name + "/"));
+                } else {
+                    out.putNextEntry(new JarEntry(name));
+                    try (var in = Files.newInputStream(file)) {
+                        in.transferTo(out);
+                    }
+                }
+                out.closeEntry();
+            }
+        }
+        return jarFile;
+    }
+
+    private void assertSampleScan(URL location) throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{location}, getClass().getClassLoader())) {
+            ScanResult result = new ClassPathScanner(classLoader).scan("sample");
+
+            Set<String> components = result.getComponents().stream()
+                    .map(Class::getName)
+                    .collect(Collectors.toSet());
+            assertEquals(Set.of("sample.CustomService", "sample.sub.UserRepository", "sample.SampleConfig"), components);
+
+            assertEquals(1, result.getConfigurations().size());
+            List<BeanInfo> beanInfos = result.getBeanMethods().values().iterator().next();
+            assertEquals(1, beanInfos.size());
+            assertEquals("appName", beanInfos.get(0).getName());
+            assertEquals(String.class, beanInfos.get(0).getBeanClass());
+        }
+    }
+
+    @Test
+    public void testScanDirectory() throws Exception {
+        assertSampleScan(compile().toUri().toURL());
+    }
+
+    @Test
+    public void testScanJar() throws Exception {
+        assertSampleScan(jar(compile()).toUri().toURL());
+    }
+
+    @Test
+    public void testScanLoadsOnlyComponentClasses() throws Exception {
+        Path classesDir = compile();
+        Set<String> loadedClasses = java.util.concurrent.ConcurrentHashMap.newKeySet();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classesDir.toUri().toURL()}, getClass().getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                loadedClasses.add(name);
+                return super.loadClass(name, resolve);
+            }
+        }) {
+            new ClassPathScanner(classLoader).scan("sample");
+
+            assertTrue(loadedClasses.contains("sample.CustomService"));
+            assertFalse(loadedClasses.contains("sample.Plain"));
+            assertFalse(loadedClasses.contains("sample.Stereotype"));
+        }
+    }
+
+    @Test
+    public void testScanCacheReusesUnchangedEntries() throws Exception {
+        Path classesDir = compile();
+        Path cacheDir = tempDir.resolve("cache");
+        URL location = classesDir.toUri().toURL();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{location}, getClass().getClassLoader())) {
+            assertEquals(3, new ClassPathScanner(classLoader, cacheDir).scan("sample").getComponents().size());
+        }
+
+        List<Path> cacheFiles;
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            cacheFiles = files.toList();
+        }
+        assertEquals(1, cacheFiles.size());
+        byte[] cachedBytes = Files.readAllBytes(cacheFiles.get(0));
+        var cachedTime = Files.getLastModifiedTime(cacheFiles.get(0));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{location}, getClass().getClassLoader())) {
+            assertEquals(3, new ClassPathScanner(classLoader, cacheDir).scan("sample").getComponents().size());
+        }
+        assertArrayEquals(cachedBytes, Files.readAllBytes(cacheFiles.get(0)));
+        assertEquals(cachedTime, Files.getLastModifiedTime(cacheFiles.get(0)));
+    }
+
+    @Test
+    public void testScanCacheRescansChangedEntries() throws Exception {
+        Path classesDir = compile();
+        Path cacheDir = tempDir.resolve("cache");
+        URL location = classesDir.toUri().toURL();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{location}, getClass().getClassLoader())) {
+            assertEquals(3, new ClassPathScanner(classLoader, cacheDir).scan("sample").getComponents().size());
+        }
+
+        Files.delete(classesDir.resolve("sample/sub/UserRepository.class"));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{location}, getClass().getClassLoader())) {
+            Set<String> components = new ClassPathScanner(classLoader, cacheDir).scan("sample").getComponents().stream()
+                    .map(Class::getName)
+                    .collect(Collectors.toSet());
+            assertEquals(Set.of("sample.CustomService", "sample.SampleConfig"), components);
+        }
+    }
+
+    @Test
+    public void testScanResolvesSupertypesOutsideScannedPackage() throws Exception {
+        Path classesDir = compile(Map.of(
+                "shared.Managed", """
+                        package shared;
+                        @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                        @dev.hanginggoose.nestdi.framework.annotations.Component
+                        public @interface Managed {
+                        }
+                        """,
+                "shared.Handler", """
+                        package shared;
+                        @dev.hanginggoose.nestdi.framework.annotations.Service
+                        public interface Handler {
+                        }
+                        """,
+                "shared.Store", """
+                        package shared;
+                        @dev.hanginggoose.nestdi.framework.annotations.Repository
+                        public interface Store {
+                        }
+                        """,
+                "shared.BaseStore", """
+                        package shared;
+                        public abstract class BaseStore implements Store {
+                        }
+                        """,
+                "app.EventHandler", """
+                        package app;
+                        public class EventHandler implements shared.Handler {
+                        }
+                        """,
+                "app.UserStore", """
+                        package app;
+                        public class UserStore extends shared.BaseStore {
+                        }
+                        """,
+                "app.AuditService", """
+                        package app;
+                        @shared.Managed
+                        public class AuditService {
+                        }
+                        """,
+                "app.Plain", """
+                        package app;
+                        public class Plain implements Runnable {
+                            public void run() {
+                            }
+                        }
+                        """
+        ));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classesDir.toUri().toURL()}, getClass().getClassLoader())) {
+            Set<String> components = new ClassPathScanner(classLoader).scan("app").getComponents().stream()
+                    .map(Class::getName)
+                    .collect(Collectors.toSet());
+            assertEquals(Set.of("app.EventHandler", "app.UserStore", "app.AuditService"), components);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package dev.hanginggoose.nestdi.framework.test.scanning;
+
+import dev.hanginggoose.nestdi.framework.core.BeanInfo;
+import dev.hanginggoose.nestdi.framework.processing.ComponentIndexProcessor;
+import dev.hanginggoose.nestdi.framework.scanning.ComponentIndex;
+import dev.hanginggoose.nestdi.framework.scanning.ComponentScanner;
+import dev.hanginggoose.nestdi.framework.scanning.ConfigurationScanner;
+import dev.hanginggoose.nestdi.framework.test.support.Compilation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComponentIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path compile(Map<String, String> sources) throws IOException {
+        return new Compilation(tempDir).processor(ComponentIndexProcessor.class).compile(sources);
+    }
+
+    private static Map<String, String> sampleSources() {
+        return Map.of(
+                "sample.GreetingService", """
+                        package sample;
+                        @dev.hanginggoose.nestdi.framework.annotations.Service
+                        public class GreetingService {
+                            @dev.hanginggoose.nestdi.framework.annotations.Component
+                            public static class Nested {
+                            }
+                        }
+                        """,
+                "sample.AbstractRepository", """
+                        package sample;
+                        @dev.hanginggoose.nestdi.framework.annotations.Repository
+                        public abstract class AbstractRepository {
+                        }
+                        """,
+                "sample.UserRepository", """
+                        package sample;
+                        public class UserRepository extends AbstractRepository {
+                        }
+                        """,
+                "sample.SampleConfig", """
+                        package sample;
+                        @dev.hanginggoose.nestdi.framework.annotations.Configuration
+                        public class SampleConfig {
+                            @dev.hanginggoose.nestdi.framework.annotations.Bean(name = "appName")
+                            public String name(GreetingService service, int[] numbers) {
+                                return "app";
+                            }
+                            public String helper() {
+                                return "helper";
+                            }
+                        }
+                        """,
+                "sample.Handler", """
+                        package sample;
+                        @dev.hanginggoose.nestdi.framework.annotations.Service
+                        public interface Handler {
+                        }
+                        """,
+                "sample.EventHandler", """
+                        package sample;
+                        public class EventHandler implements Handler {
+                        }
+                        """,
+                "other.Unrelated", """
+                        package other;
+                        @dev.hanginggoose.nestdi.framework.annotations.Service
+                        public class Unrelated {
+                        }
+                        """
+        );
+    }
+
+    @Test
+    public void testProcessorWritesIndex() throws Exception {
+        Path classesDir = compile(sampleSources());
+
+        List<String> entries = Files.readAllLines(classesDir.resolve(ComponentIndex.INDEX_LOCATION));
+        assertTrue(entries.contains("component sample.GreetingService"));
+        assertTrue(entries.contains("component sample.GreetingService$Nested"));
+        assertTrue(entries.contains("component sample.UserRepository"));
+        assertTrue(entries.contains("component sample.EventHandler"));
+        assertTrue(entries.contains("component sample.SampleConfig"));
+        assertTrue(entries.contains("configuration sample.SampleConfig"));
+        assertTrue(entries.contains("bean sample.SampleConfig name(sample.GreetingService,int[])"));
+        assertFalse(entries.contains("component sample.AbstractRepository"));
+    }
+
+    @Test
+    public void testScannersReadIndex() throws Exception {
+        Path classesDir = compile(sampleSources());
+
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classesDir.toUri().toURL()}, original)) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+
+            Set<String> components = new ComponentScanner().scan("sample").stream()
+                    .map(Class::getName)
+                    .collect(Collectors.toSet());
+            assertEquals(Set.of("sample.GreetingService", "sample.GreetingService$Nested",
+                    "sample.UserRepository", "sample.EventHandler", "sample.SampleConfig"), components);
+
+            Map<Class<?>, List<BeanInfo>> beanMethods = new ConfigurationScanner().scanAllBeanMethods("sample");
+            assertEquals(1, beanMethods.size());
+
+            List<BeanInfo> beanInfos = beanMethods.values().iterator().next();
+            assertEquals(1, beanInfos.size());
+            assertEquals("appName", beanInfos.get(0).getName());
+            assertEquals(String.class, beanInfos.get(0).getBeanClass());
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void testIncrementalCompilationMergesIndex() throws Exception {
+        Path classesDir = compile(sampleSources());
+        compile(Map.of("sample.AuditService", """
+                package sample;
+                @dev.hanginggoose.nestdi.framework.annotations.Service
+                public class AuditService implements Handler {
+                }
+                """));
+
+        List<String> entries = Files.readAllLines(classesDir.resolve(ComponentIndex.INDEX_LOCATION));
+        assertTrue(entries.contains("component sample.AuditService"));
+        assertTrue(entries.contains("component sample.GreetingService"));
+        assertTrue(entries.contains("bean sample.SampleConfig name(sample.GreetingService,int[])"));
+    }
+
+    @Test
+    public void testUnindexedClassesFallBackToScanning() throws Exception {
+        Path classesDir = compile(sampleSources());
+        Path extraDir = Files.createDirectories(tempDir.resolve("extra/sample"));
+        Files.move(classesDir.resolve("sample/EventHandler.class"), extraDir.resolve("EventHandler.class"));
+        Files.delete(classesDir.resolve("sample/UserRepository.class"));
+
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{
+                classesDir.toUri().toURL(), tempDir.resolve("extra").toUri().toURL()}, original)) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+
+            Set<String> components = new ComponentScanner().scan("sample").stream()
+                    .map(Class::getName)
+                    .collect(Collectors.toSet());
+            assertEquals(Set.of("sample.GreetingService", "sample.GreetingService$Nested",
+                    "sample.EventHandler", "sample.SampleConfig"), components);
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package dev.hanginggoose.nestdi.framework.test.support;
+
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class Compilation {
+    private final Path sourceDirectory;
+    private final Path classesDirectory;
+    private final List<String> options = new ArrayList<>();
+    private final ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+    private boolean processors;
+
+    public Compilation(Path directory) throws IOException {
+        this.sourceDirectory = Files.createDirectories(directory.resolve("src"));
+        this.classesDirectory = Files.createDirectories(directory.resolve("classes"));
+    }
+
+    public Compilation processor(Class<?> processor) {
+        options.add("-processor");
+        options.add(processor.getName());
+        processors = true;
+        return this;
+    }
+
+    public Compilation option(String option) {
+        options.add(option);
+        return this;
+    }
+
+    public int run(Map<String, String> sources) throws IOException {
+        List<String> arguments = new ArrayList<>(List.of(
+                "-d", classesDirectory.toString(),
+                "-s", sourceDirectory.toString(),
+                "-classpath", System.getProperty("java.class.path") + File.pathSeparator + classesDirectory
+        ));
+        if (!processors) {
+            arguments.add("-proc:none");
+        }
+        arguments.addAll(options);
+
+        for (var entry : sources.entrySet()) {
+            Path sourceFile = sourceDirectory.resolve(entry.getKey().replace('.', '/') + ".java");
+            Files.createDirectories(sourceFile.getParent());
+            Files.writeString(sourceFile, entry.getValue());
+            arguments.add(sourceFile.toString());
+        }
+
+        return ToolProvider.getSystemJavaCompiler().run(null, null, diagnostics, arguments.toArray(new String[0]));
+    }
+
+    public Path compile(Map<String, String> sources) throws IOException {
+        assertEquals(0, run(sources), getDiagnostics());
+        return classesDirectory;
+    }
+
+    public Path getSourceDirectory() {
+        return sourceDirectory;
+    }
+
+    public Path getClassesDirectory() {
+        return classesDirectory;
+    }
+
+    public String getDiagnostics() {
+        return diagnostics.toString();
+    }
+}